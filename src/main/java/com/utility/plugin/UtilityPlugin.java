@@ -1,13 +1,25 @@
 package com.utility.plugin;
 
 import com.utility.plugin.commands.*;
-import com.utility.plugin.listeners.GodModeListener;
+import com.utility.plugin.listeners.GodModeJoinListener;
+import com.utility.plugin.listeners.MessageFlushListener;
+import com.utility.plugin.listeners.OfflineInventoryListener;
+import com.utility.plugin.listeners.TPAListener;
 import com.utility.plugin.listeners.TrashGUIListener;
 import com.utility.plugin.services.ConfigService;
+import com.utility.plugin.services.ConfigWatcher;
+import com.utility.plugin.services.GodModeService;
+import com.utility.plugin.services.InventorySessionService;
 import com.utility.plugin.services.MessageService;
+import com.utility.plugin.services.OfflineInventoryService;
 import com.utility.plugin.services.TPAService;
+import com.utility.plugin.services.RepairService;
+import com.utility.plugin.services.TeleportService;
+import com.utility.plugin.utils.TraceBuffer;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main plugin class for the UtilityPlugin.
  * 
@@ -21,7 +33,14 @@ public class UtilityPlugin extends JavaPlugin {
     private static UtilityPlugin instance;
     private ConfigService configService;
     private MessageService messageService;
+    private TeleportService teleportService;
     private TPAService tpaService;
+    private GodModeService godModeService;
+    private RepairService repairService;
+    private InventorySessionService inventorySessionService;
+    private OfflineInventoryService offlineInventoryService;
+    private TraceBuffer traceBuffer;
+    private ConfigWatcher configWatcher;
     
     @Override
     public void onEnable() {
@@ -37,14 +56,46 @@ public class UtilityPlugin extends JavaPlugin {
         // Register listeners
         registerListeners();
         
+        // Restore god mode for players already online, e.g. after a plugin reload
+        godModeService.restoreOnlinePlayers();
+        
         // Log successful startup
         getLogger().info("UtilityPlugin has been enabled successfully!");
     }
     
     @Override
     public void onDisable() {
-        // Clear all god mode players
-        com.utility.plugin.commands.GodCommand.clearAllGodMode();
+        // Stop watching config.yml
+        if (configWatcher != null) {
+            configWatcher.shutdown();
+        }
+        
+        // Send messages still queued for this tick
+        if (messageService != null) {
+            messageService.flush();
+        }
+        
+        // Drop pending teleport requests and stop their expiry task
+        if (tpaService != null) {
+            tpaService.shutdown();
+        }
+        if (teleportService != null) {
+            teleportService.shutdown();
+        }
+        if (repairService != null) {
+            repairService.shutdown();
+        }
+        if (inventorySessionService != null) {
+            inventorySessionService.shutdown();
+        }
+        if (offlineInventoryService != null) {
+            offlineInventoryService.shutdown();
+        }
+        
+        // Unload god mode players; their god mode stays stored on each player
+        if (godModeService != null) {
+            godModeService.clear();
+        }
         
         // Log shutdown
         getLogger().info("UtilityPlugin has been disabled!");
@@ -55,8 +106,19 @@ public class UtilityPlugin extends JavaPlugin {
      */
     private void initializeServices() {
         configService = new ConfigService(this);
+        traceBuffer = new TraceBuffer(configService.getTraceBufferSize());
         messageService = new MessageService(this);
+        teleportService = new TeleportService(this);
         tpaService = new TPAService(this);
+        godModeService = new GodModeService(this);
+        repairService = new RepairService(this);
+        inventorySessionService = new InventorySessionService(this);
+        offlineInventoryService = new OfflineInventoryService(this);
+        
+        if (configService.isAutoReloadEnabled()) {
+            configWatcher = new ConfigWatcher(this);
+            configWatcher.start();
+        }
     }
     
     /**
@@ -72,7 +134,10 @@ public class UtilityPlugin extends JavaPlugin {
         getCommand("tpa").setExecutor(new TPACommand(this));
         getCommand("tpaccept").setExecutor(new TPAAcceptCommand(this));
         getCommand("tpadeny").setExecutor(new TPADenyCommand(this));
+        getCommand("tpahere").setExecutor(new TPAHereCommand(this));
+        getCommand("tpaall").setExecutor(new TPAAllCommand(this));
         getCommand("trash").setExecutor(new TrashCommand(this));
+        getCommand("utility").setExecutor(new UtilityCommand(this));
         
         // Register tab completers
         getCommand("gamemode").setTabCompleter(new GamemodeCommand(this));
@@ -81,14 +146,40 @@ public class UtilityPlugin extends JavaPlugin {
         getCommand("enderchest").setTabCompleter(new EnderChestCommand(this));
         getCommand("fix").setTabCompleter(new FixCommand(this));
         getCommand("tpa").setTabCompleter(new TPACommand(this));
+        getCommand("tpaccept").setTabCompleter(new TPAAcceptCommand(this));
+        getCommand("tpadeny").setTabCompleter(new TPADenyCommand(this));
+        getCommand("tpahere").setTabCompleter(new TPAHereCommand(this));
+        getCommand("utility").setTabCompleter(new UtilityCommand(this));
     }
     
     /**
      * Register all plugin listeners.
      */
     private void registerListeners() {
-        getServer().getPluginManager().registerEvents(new GodModeListener(this), this);
         getServer().getPluginManager().registerEvents(new TrashGUIListener(this), this);
+        getServer().getPluginManager().registerEvents(new TPAListener(this), this);
+        getServer().getPluginManager().registerEvents(new MessageFlushListener(this), this);
+        getServer().getPluginManager().registerEvents(new GodModeJoinListener(this), this);
+        getServer().getPluginManager().registerEvents(new OfflineInventoryListener(this), this);
+    }
+    
+    /**
+     * Reloads config.yml off the main thread and recompiles the messages.
+     * Settings read at startup, such as persistence and cluster settings, still need a restart.
+     * 
+     * @return Future completed once the new configuration is in use
+     */
+    public CompletableFuture<Void> reloadConfiguration() {
+        return configService.reloadAsync().thenRun(this::applyConfiguration);
+    }
+    
+    /**
+     * Applies a newly published configuration to the services that keep compiled parts of it.
+     * Safe to call from any thread.
+     */
+    public void applyConfiguration() {
+        messageService.compileTemplates();
+        godModeService.refreshPolicies();
     }
     
     /**
@@ -109,6 +200,15 @@ public class UtilityPlugin extends JavaPlugin {
         return messageService;
     }
     
+    /**
+     * Get the TeleportService instance.
+     * 
+     * @return the TeleportService instance
+     */
+    public TeleportService getTeleportService() {
+        return teleportService;
+    }
+    
     /**
      * Get the TPAService instance.
      * 
@@ -118,6 +218,51 @@ public class UtilityPlugin extends JavaPlugin {
         return tpaService;
     }
     
+    /**
+     * Get the GodModeService instance.
+     * 
+     * @return the GodModeService instance
+     */
+    public GodModeService getGodModeService() {
+        return godModeService;
+    }
+    
+    /**
+     * Get the RepairService instance.
+     * 
+     * @return the RepairService instance
+     */
+    public RepairService getRepairService() {
+        return repairService;
+    }
+    
+    /**
+     * Get the InventorySessionService instance.
+     * 
+     * @return the InventorySessionService instance
+     */
+    public InventorySessionService getInventorySessionService() {
+        return inventorySessionService;
+    }
+    
+    /**
+     * Get the OfflineInventoryService instance.
+     * 
+     * @return the OfflineInventoryService instance
+     */
+    public OfflineInventoryService getOfflineInventoryService() {
+        return offlineInventoryService;
+    }
+    
+    /**
+     * Get the TraceBuffer instance.
+     * 
+     * @return the TraceBuffer instance
+     */
+    public TraceBuffer getTraceBuffer() {
+        return traceBuffer;
+    }
+    
     /**
      * Get the plugin instance for static access.
      * 
@@ -0,0 +1,84 @@
+package com.utility.plugin.cluster;
+
+import java.util.UUID;
+
+/**
+ * TPA message exchanged between cluster nodes.
+ * The sender is always the player who sent the original request; for receipts, accepts
+ * and denies the target is the player who got or answered it.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class ClusterMessage {
+    
+    /**
+     * Kind of TPA message.
+     */
+    public enum Type {
+        REQUEST,
+        ACCEPT,
+        DENY,
+        RECEIVED
+    }
+    
+    private final Type type;
+    private final UUID senderId;
+    private final String senderName;
+    private final UUID targetId;
+    private final String targetName;
+    private final String originNode;
+    
+    public ClusterMessage(Type type, UUID senderId, String senderName, UUID targetId, String targetName, String originNode) {
+        this.type = type;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.targetId = targetId;
+        this.targetName = targetName;
+        this.originNode = originNode;
+    }
+    
+    public static ClusterMessage request(UUID senderId, String senderName, String targetName) {
+        return new ClusterMessage(Type.REQUEST, senderId, senderName, null, targetName, null);
+    }
+    
+    public static ClusterMessage accept(UUID senderId, UUID targetId, String targetName) {
+        return new ClusterMessage(Type.ACCEPT, senderId, null, targetId, targetName, null);
+    }
+    
+    public static ClusterMessage received(UUID senderId, UUID targetId, String targetName) {
+        return new ClusterMessage(Type.RECEIVED, senderId, null, targetId, targetName, null);
+    }
+    
+    public static ClusterMessage deny(UUID senderId, UUID targetId, String targetName) {
+        return new ClusterMessage(Type.DENY, senderId, null, targetId, targetName, null);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public UUID getSenderId() {
+        return senderId;
+    }
+    
+    public String getSenderName() {
+        return senderName;
+    }
+    
+    public UUID getTargetId() {
+        return targetId;
+    }
+    
+    public String getTargetName() {
+        return targetName;
+    }
+    
+    /**
+     * Gets the node the message was sent from; only set on received messages.
+     * 
+     * @return The origin node, or null for outgoing messages
+     */
+    public String getOriginNode() {
+        return originNode;
+    }
+}
@@ -0,0 +1,276 @@
+package com.utility.plugin.cluster;
+
+import org.bukkit.entity.Player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Batches TPA messages per tick before handing them to a {@link ClusterTransport}.
+ * Messages queued during a tick are coalesced per target node, so a player spamming
+ * requests only ever costs one message, and {@link #flush()} sends a single frame
+ * per node instead of one plugin message per action.
+ * Not thread-safe: all methods must run on the main thread.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class ClusterMessenger {
+    
+    private static final byte PROTOCOL_VERSION = 1;
+    
+    /**
+     * Frames stay below the serverbound plugin message limit so any transport can carry them.
+     */
+    static final int MAX_FRAME_BYTES = 32000;
+    
+    private final ClusterTransport transport;
+    private final Consumer<ClusterMessage> handler;
+    private final Logger logger;
+    private final Map<String, Map<Key, ClusterMessage>> outbound = new HashMap<>();
+    private final ByteArrayOutputStream frameBytes = new ByteArrayOutputStream(512);
+    
+    private long framesSent;
+    private long messagesSent;
+    private long messagesCoalesced;
+    private long messagesReceived;
+    
+    /**
+     * Constructs a new ClusterMessenger instance.
+     * 
+     * @param transport The transport carrying the frames
+     * @param handler Receiver of the messages sent to this node
+     * @param logger Logger for frames that cannot be decoded
+     */
+    public ClusterMessenger(ClusterTransport transport, Consumer<ClusterMessage> handler, Logger logger) {
+        this.transport = transport;
+        this.handler = handler;
+        this.logger = logger;
+    }
+    
+    public void open() {
+        transport.open(this::receive);
+    }
+    
+    public String getNodeId() {
+        return transport.getNodeId();
+    }
+    
+    /**
+     * Queues a message for the next flush, replacing a queued message of the same
+     * type from the same sender to the same node.
+     * 
+     * @param node The target node, or {@link ClusterTransport#ALL}
+     * @param message The message to send
+     */
+    public void send(String node, ClusterMessage message) {
+        Map<Key, ClusterMessage> queue = outbound.computeIfAbsent(node, ignored -> new LinkedHashMap<>());
+        Key key = new Key(message.getType(), message.getSenderId());
+        if (queue.remove(key) != null) {
+            messagesCoalesced++;
+        }
+        queue.put(key, message);
+    }
+    
+    /**
+     * Moves a local player to another node.
+     * 
+     * @param player The player to move
+     * @param node The target node
+     * @return true if the move was handed to the proxy
+     */
+    public boolean connect(Player player, String node) {
+        return transport.connect(player, node);
+    }
+    
+    /**
+     * Sends every queued message, one frame per target node.
+     */
+    public void flush() {
+        if (outbound.isEmpty()) {
+            return;
+        }
+        
+        for (Map.Entry<String, Map<Key, ClusterMessage>> entry : outbound.entrySet()) {
+            for (byte[] frame : encode(entry.getValue().values())) {
+                transport.send(entry.getKey(), frame);
+                framesSent++;
+            }
+            messagesSent += entry.getValue().size();
+        }
+        outbound.clear();
+    }
+    
+    /**
+     * Decodes a frame received from another node and passes its messages to the handler.
+     * 
+     * @param frame The encoded frame
+     */
+    public void receive(byte[] frame) {
+        List<ClusterMessage> messages;
+        try {
+            messages = decode(frame);
+        } catch (IOException e) {
+            logger.warning("Dropped malformed cluster frame: " + e.getMessage());
+            return;
+        }
+        
+        messagesReceived += messages.size();
+        for (ClusterMessage message : messages) {
+            handler.accept(message);
+        }
+    }
+    
+    public long getFramesSent() {
+        return framesSent;
+    }
+    
+    public long getMessagesSent() {
+        return messagesSent;
+    }
+    
+    public long getMessagesCoalesced() {
+        return messagesCoalesced;
+    }
+    
+    public long getMessagesReceived() {
+        return messagesReceived;
+    }
+    
+    public void close() {
+        outbound.clear();
+        transport.close();
+    }
+    
+    private List<byte[]> encode(Iterable<ClusterMessage> messages) {
+        List<byte[]> frames = new ArrayList<>(1);
+        try {
+            DataOutputStream frame = startFrame();
+            int count = 0;
+            for (ClusterMessage message : messages) {
+                int frameStart = frameBytes.size();
+                writeMessage(frame, message);
+                if (frameBytes.size() > MAX_FRAME_BYTES && count > 0) {
+                    // Move the message that overflowed into a fresh frame
+                    byte[] encoded = frameBytes.toByteArray();
+                    frames.add(finishFrame(encoded, frameStart, count));
+                    frame = startFrame();
+                    frameBytes.write(encoded, frameStart, encoded.length - frameStart);
+                    count = 0;
+                }
+                count++;
+            }
+            frames.add(finishFrame(frameBytes.toByteArray(), frameBytes.size(), count));
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+        return frames;
+    }
+    
+    private DataOutputStream startFrame() throws IOException {
+        frameBytes.reset();
+        DataOutputStream frame = new DataOutputStream(frameBytes);
+        frame.writeByte(PROTOCOL_VERSION);
+        frame.writeUTF(transport.getNodeId());
+        frame.writeShort(0);
+        return frame;
+    }
+    
+    private byte[] finishFrame(byte[] encoded, int length, int count) {
+        byte[] frame = new byte[length];
+        System.arraycopy(encoded, 0, frame, 0, length);
+        
+        // Patch the message count written as a placeholder by startFrame
+        int countOffset = 3 + ((frame[1] & 0xFF) << 8 | frame[2] & 0xFF);
+        frame[countOffset] = (byte) (count >>> 8);
+        frame[countOffset + 1] = (byte) count;
+        return frame;
+    }
+    
+    private static void writeMessage(DataOutputStream out, ClusterMessage message) throws IOException {
+        out.writeByte(message.getType().ordinal());
+        writeUUID(out, message.getSenderId());
+        out.writeUTF(message.getSenderName() == null ? "" : message.getSenderName());
+        writeUUID(out, message.getTargetId());
+        out.writeUTF(message.getTargetName() == null ? "" : message.getTargetName());
+    }
+    
+    private static List<ClusterMessage> decode(byte[] frame) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+        byte version = in.readByte();
+        if (version != PROTOCOL_VERSION) {
+            throw new IOException("unsupported protocol version " + version);
+        }
+        
+        String originNode = in.readUTF();
+        int count = in.readUnsignedShort();
+        ClusterMessage.Type[] types = ClusterMessage.Type.values();
+        List<ClusterMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int type = in.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("unknown message type " + type);
+            }
+            UUID senderId = readUUID(in);
+            String senderName = in.readUTF();
+            UUID targetId = readUUID(in);
+            String targetName = in.readUTF();
+            messages.add(new ClusterMessage(types[type], senderId, senderName.isEmpty() ? null : senderName,
+                    targetId, targetName.isEmpty() ? null : targetName, originNode));
+        }
+        return messages;
+    }
+    
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid == null ? 0L : uuid.getMostSignificantBits());
+        out.writeLong(uuid == null ? 0L : uuid.getLeastSignificantBits());
+    }
+    
+    private static UUID readUUID(DataInputStream in) throws IOException {
+        long most = in.readLong();
+        long least = in.readLong();
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+    
+    /**
+     * Coalescing key: at most one queued message per type and sender for each node.
+     */
+    private static final class Key {
+        private final ClusterMessage.Type type;
+        private final UUID senderId;
+        
+        private Key(ClusterMessage.Type type, UUID senderId) {
+            this.type = type;
+            this.senderId = senderId;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && senderId.equals(other.senderId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, senderId);
+        }
+    }
+}
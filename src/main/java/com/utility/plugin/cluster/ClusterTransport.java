@@ -0,0 +1,56 @@
+package com.utility.plugin.cluster;
+
+import org.bukkit.entity.Player;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport carrying TPA traffic between the backend servers behind a proxy.
+ * Implementations only move opaque frames; batching and encoding are done by
+ * {@link ClusterMessenger}.
+ * 
+ * @author UtilityPlugin Team
+ */
+public interface ClusterTransport {
+    
+    /**
+     * Target node that addresses every other node in the cluster.
+     */
+    String ALL = "ALL";
+    
+    /**
+     * Gets the name of this node, as known to the proxy.
+     * 
+     * @return The node name
+     */
+    String getNodeId();
+    
+    /**
+     * Starts delivering incoming frames.
+     * 
+     * @param receiver Receiver of the frames sent to this node, called on the main thread
+     */
+    void open(Consumer<byte[]> receiver);
+    
+    /**
+     * Sends a frame to another node.
+     * 
+     * @param node The target node, or {@link #ALL} to reach every other node
+     * @param frame The encoded frame
+     */
+    void send(String node, byte[] frame);
+    
+    /**
+     * Moves a local player to another node.
+     * 
+     * @param player The player to move
+     * @param node The target node
+     * @return true if the move was handed to the proxy
+     */
+    boolean connect(Player player, String node);
+    
+    /**
+     * Stops delivering frames and releases the transport.
+     */
+    void close();
+}
@@ -0,0 +1,106 @@
+package com.utility.plugin.cluster;
+
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport connecting the nodes of a {@link Network} directly.
+ * Frames are delivered synchronously to the receivers of the target nodes, so a
+ * whole cluster can be run and tested inside one JVM without a proxy.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class LoopbackTransport implements ClusterTransport {
+    
+    private static final Network SHARED_NETWORK = new Network();
+    
+    private final String nodeId;
+    private final Network network;
+    private Consumer<byte[]> receiver;
+    
+    /**
+     * Constructs a new LoopbackTransport on the network shared by the whole JVM.
+     * 
+     * @param nodeId The name of this node
+     */
+    public LoopbackTransport(String nodeId) {
+        this(nodeId, SHARED_NETWORK);
+    }
+    
+    /**
+     * Constructs a new LoopbackTransport instance.
+     * 
+     * @param nodeId The name of this node
+     * @param network The network to join
+     */
+    public LoopbackTransport(String nodeId, Network network) {
+        this.nodeId = nodeId;
+        this.network = network;
+    }
+    
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    @Override
+    public void open(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        network.nodes.put(nodeId, this);
+    }
+    
+    @Override
+    public void send(String node, byte[] frame) {
+        if (ALL.equals(node)) {
+            for (LoopbackTransport other : network.nodes.values().toArray(new LoopbackTransport[0])) {
+                if (other != this) {
+                    other.receiver.accept(frame);
+                }
+            }
+            return;
+        }
+        
+        LoopbackTransport other = network.nodes.get(node);
+        if (other != null && other != this) {
+            other.receiver.accept(frame);
+        }
+    }
+    
+    @Override
+    public boolean connect(Player player, String node) {
+        if (!network.nodes.containsKey(node)) {
+            return false;
+        }
+        if (network.connectHandler != null) {
+            network.connectHandler.accept(player, node);
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        network.nodes.remove(nodeId, this);
+        receiver = null;
+    }
+    
+    /**
+     * Set of loopback nodes that can reach each other.
+     */
+    public static final class Network {
+        private final Map<String, LoopbackTransport> nodes = new LinkedHashMap<>();
+        private BiConsumer<Player, String> connectHandler;
+        
+        /**
+         * Sets the callback standing in for the proxy when a player is moved between nodes.
+         * 
+         * @param connectHandler Receiver of the moved player and the target node
+         */
+        public void setConnectHandler(BiConsumer<Player, String> connectHandler) {
+            this.connectHandler = connectHandler;
+        }
+    }
+}
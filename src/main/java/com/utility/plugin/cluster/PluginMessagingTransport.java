@@ -0,0 +1,138 @@
+package com.utility.plugin.cluster;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.messaging.Messenger;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Transport over the BungeeCord plugin messaging channel, understood by both
+ * BungeeCord and Velocity. Frames are wrapped in "Forward" messages addressed to a
+ * node name or to every node.
+ * Plugin messages travel over a player connection, so frames sent while nobody is
+ * online are held back, up to a bound, until a player joins.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class PluginMessagingTransport implements ClusterTransport, PluginMessageListener {
+    
+    private static final String CHANNEL = "BungeeCord";
+    private static final String SUBCHANNEL = "UtilityTPA";
+    private static final int MAX_HELD_FRAMES = 64;
+    
+    private final Plugin plugin;
+    private final String nodeId;
+    private final ArrayDeque<byte[]> held = new ArrayDeque<>();
+    private Consumer<byte[]> receiver;
+    
+    /**
+     * Constructs a new PluginMessagingTransport instance.
+     * 
+     * @param plugin The plugin owning the channel
+     * @param nodeId The name of this server in the proxy configuration
+     */
+    public PluginMessagingTransport(Plugin plugin, String nodeId) {
+        this.plugin = plugin;
+        this.nodeId = nodeId;
+    }
+    
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    @Override
+    public void open(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        Messenger messenger = plugin.getServer().getMessenger();
+        messenger.registerOutgoingPluginChannel(plugin, CHANNEL);
+        messenger.registerIncomingPluginChannel(plugin, CHANNEL, this);
+    }
+    
+    @Override
+    public void send(String node, byte[] frame) {
+        byte[] message = forward(node, frame);
+        Iterator<? extends Player> players = plugin.getServer().getOnlinePlayers().iterator();
+        if (!players.hasNext()) {
+            if (held.size() == MAX_HELD_FRAMES) {
+                held.pollFirst();
+            }
+            held.addLast(message);
+            return;
+        }
+        
+        Player carrier = players.next();
+        while (!held.isEmpty()) {
+            carrier.sendPluginMessage(plugin, CHANNEL, held.pollFirst());
+        }
+        carrier.sendPluginMessage(plugin, CHANNEL, message);
+    }
+    
+    @Override
+    public boolean connect(Player player, String node) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeUTF("Connect");
+            out.writeUTF(node);
+        } catch (IOException e) {
+            return false;
+        }
+        player.sendPluginMessage(plugin, CHANNEL, bytes.toByteArray());
+        return true;
+    }
+    
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        if (!CHANNEL.equals(channel) || receiver == null) {
+            return;
+        }
+        
+        // Forwarded messages arrive as subchannel, length and payload
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
+        try {
+            if (!SUBCHANNEL.equals(in.readUTF())) {
+                return;
+            }
+            byte[] frame = new byte[in.readUnsignedShort()];
+            in.readFully(frame);
+            receiver.accept(frame);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Dropped malformed cluster message: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public void close() {
+        Messenger messenger = plugin.getServer().getMessenger();
+        messenger.unregisterIncomingPluginChannel(plugin);
+        messenger.unregisterOutgoingPluginChannel(plugin);
+        held.clear();
+        receiver = null;
+    }
+    
+    private static byte[] forward(String node, byte[] frame) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(frame.length + 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeUTF("Forward");
+            out.writeUTF(node);
+            out.writeUTF(SUBCHANNEL);
+            out.writeShort(frame.length);
+            out.write(frame);
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
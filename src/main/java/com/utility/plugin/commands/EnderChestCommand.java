@@ -1,6 +1,7 @@
 package com.utility.plugin.commands;
 
 import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.OfflineInventoryGUI;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -9,7 +10,7 @@ import java.util.List;
 
 /**
  * Command handler for the /enderchest command.
- * Allows players to open another player's ender chest.
+ * Allows players to open another player's ender chest, also while that player is offline.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
@@ -43,12 +44,14 @@ public class EnderChestCommand extends BaseCommand {
             return false;
         }
         
-        Player target = commandUtils.getTargetPlayer(sender, args[0]);
+        Player player = (Player) sender;
+        Player target = plugin.getServer().getPlayer(args[0]);
         if (target == null) {
+            // Read from the player data file; opens once it has been decoded
+            plugin.getOfflineInventoryService().open(player, args[0], OfflineInventoryGUI.Kind.ENDER_CHEST);
             return true;
         }
         
-        Player player = (Player) sender;
         player.openInventory(target.getEnderChest());
         
         plugin.getMessageService().sendMessage(sender, "enderchest-opened", "player", target.getName());
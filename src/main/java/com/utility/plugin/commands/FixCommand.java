@@ -1,16 +1,19 @@
 package com.utility.plugin.commands;
 
 import com.utility.plugin.UtilityPlugin;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Command handler for the /fix command.
- * Allows players to repair all items for themselves or other players.
+ * Allows players to repair all items for themselves or other players, and staff to
+ * repair the items of every online player or every player in a world at once.
+ * Auto-repair keeps the items of a player from taking damage at all.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
@@ -18,6 +21,9 @@ import java.util.List;
  */
 public class FixCommand extends BaseCommand {
     
+    private static final String MASS_PERMISSION = "utility.fix.all";
+    private static final String AUTO_PERMISSION = "utility.fix.auto";
+    
     /**
      * Constructs a new FixCommand instance.
      * 
@@ -36,6 +42,13 @@ public class FixCommand extends BaseCommand {
      */
     @Override
     protected boolean execute(CommandSender sender, String[] args) {
+        if (args.length > 0 && (args[0].equalsIgnoreCase("all") || args[0].equalsIgnoreCase("world"))) {
+            return executeMass(sender, args);
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("auto")) {
+            return executeAuto(sender, args);
+        }
+        
         Player target = null;
         
         if (args.length > 0) {
@@ -51,7 +64,7 @@ public class FixCommand extends BaseCommand {
         }
         
         // Repair all items in inventory
-        repairInventory(target);
+        plugin.getRepairService().repair(target);
         
         if (target.equals(sender)) {
             plugin.getMessageService().sendMessage(sender, "items-fixed");
@@ -63,44 +76,112 @@ public class FixCommand extends BaseCommand {
     }
     
     /**
-     * Provides tab completion for the fix command.
+     * Repairs the items of every online player, or of every player in one world.
      * 
      * @param sender The command sender
-     * @param args The command arguments
-     * @return List of tab completion options
+     * @param args Command arguments, starting with all or world
+     * @return true if command executed successfully, false otherwise
      */
-    @Override
-    protected List<String> tabComplete(CommandSender sender, String[] args) {
-        if (args.length == 1) {
-            return getOnlinePlayerNames(sender, args[0]);
+    private boolean executeMass(CommandSender sender, String[] args) {
+        if (!commandUtils.hasPermission(sender, MASS_PERMISSION)) {
+            return true;
         }
-        return new ArrayList<>();
+        
+        Collection<? extends Player> players;
+        if (args[0].equalsIgnoreCase("all")) {
+            players = plugin.getServer().getOnlinePlayers();
+        } else if (args.length > 1) {
+            World world = plugin.getServer().getWorld(args[1]);
+            if (world == null) {
+                plugin.getMessageService().sendMessage(sender, "world-not-found", "world", args[1]);
+                return true;
+            }
+            players = world.getPlayers();
+        } else {
+            plugin.getMessageService().sendMessage(sender, "fix-usage");
+            return true;
+        }
+        
+        if (players.isEmpty()) {
+            plugin.getMessageService().sendMessage(sender, "fix-all-nobody");
+            return true;
+        }
+        
+        plugin.getMessageService().sendMessage(sender, "fix-all-started", "count", String.valueOf(players.size()));
+        plugin.getRepairService().repairAll(sender, new ArrayList<>(players));
+        return true;
     }
     
     /**
-     * Repairs all items in a player's inventory.
+     * Toggles auto-repair for the sender or another player.
      * 
-     * @param player The player whose inventory to repair
+     * @param sender The command sender
+     * @param args Command arguments, starting with auto
+     * @return true if command executed successfully, false otherwise
      */
-    private void repairInventory(Player player) {
-        // Repair main inventory
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType().getMaxDurability() > 0) {
-                item.setDurability((short) 0);
-            }
+    private boolean executeAuto(CommandSender sender, String[] args) {
+        if (!commandUtils.hasPermission(sender, AUTO_PERMISSION)) {
+            return true;
         }
         
-        // Repair armor
-        for (ItemStack item : player.getInventory().getArmorContents()) {
-            if (item != null && item.getType().getMaxDurability() > 0) {
-                item.setDurability((short) 0);
+        Player target;
+        if (args.length > 1) {
+            target = commandUtils.getTargetPlayer(sender, args[1]);
+            if (target == null) {
+                return true;
             }
+        } else {
+            if (!commandUtils.isPlayer(sender)) {
+                return true;
+            }
+            target = (Player) sender;
         }
         
-        // Repair offhand
-        ItemStack offhand = player.getInventory().getItemInOffHand();
-        if (offhand != null && offhand.getType().getMaxDurability() > 0) {
-            offhand.setDurability((short) 0);
+        boolean enabled = plugin.getRepairService().toggleAutoRepair(target);
+        String messagePath = enabled ? "fix-auto-enabled" : "fix-auto-disabled";
+        if (target.equals(sender)) {
+            plugin.getMessageService().sendMessage(sender, messagePath);
+        } else {
+            plugin.getMessageService().sendMessage(sender, messagePath + "-other", "player", target.getName());
+        }
+        return true;
+    }
+    
+    /**
+     * Provides tab completion for the fix command.
+     * 
+     * @param sender The command sender
+     * @param args The command arguments
+     * @return List of tab completion options
+     */
+    @Override
+    protected List<String> tabComplete(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            List<String> completions = getOnlinePlayerNames(sender, args[0]);
+            if (sender.hasPermission(MASS_PERMISSION)) {
+                for (String mode : new String[] {"all", "world"}) {
+                    if (mode.startsWith(args[0].toLowerCase())) {
+                        completions.add(mode);
+                    }
+                }
+            }
+            if (sender.hasPermission(AUTO_PERMISSION) && "auto".startsWith(args[0].toLowerCase())) {
+                completions.add("auto");
+            }
+            return completions;
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("auto") && sender.hasPermission(AUTO_PERMISSION)) {
+            return getOnlinePlayerNames(sender, args[1]);
         }
+        if (args.length == 2 && args[0].equalsIgnoreCase("world") && sender.hasPermission(MASS_PERMISSION)) {
+            List<String> completions = new ArrayList<>();
+            for (World world : plugin.getServer().getWorlds()) {
+                if (world.getName().toLowerCase().startsWith(args[1].toLowerCase())) {
+                    completions.add(world.getName());
+                }
+            }
+            return completions;
+        }
+        return new ArrayList<>();
     }
 } 
\ No newline at end of file
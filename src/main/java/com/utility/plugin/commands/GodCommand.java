@@ -6,7 +6,6 @@ import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Command handler for the /god command.
@@ -18,8 +17,6 @@ import java.util.UUID;
  */
 public class GodCommand extends BaseCommand {
     
-    private static final List<UUID> godModePlayers = new ArrayList<>();
-    
     /**
      * Constructs a new GodCommand instance.
      * 
@@ -52,20 +49,18 @@ public class GodCommand extends BaseCommand {
             target = (Player) sender;
         }
         
-        boolean isGodMode = isGodMode(target);
-        if (isGodMode) {
-            removeGodMode(target);
+        boolean enabled = plugin.getGodModeService().toggle(target);
+        if (enabled) {
             if (target.equals(sender)) {
-                plugin.getMessageService().sendMessage(sender, "god-disabled");
+                plugin.getMessageService().sendMessage(sender, "god-enabled");
             } else {
-                plugin.getMessageService().sendMessage(sender, "god-disabled-other", "player", target.getName());
+                plugin.getMessageService().sendMessage(sender, "god-enabled-other", "player", target.getName());
             }
         } else {
-            addGodMode(target);
             if (target.equals(sender)) {
-                plugin.getMessageService().sendMessage(sender, "god-enabled");
+                plugin.getMessageService().sendMessage(sender, "god-disabled");
             } else {
-                plugin.getMessageService().sendMessage(sender, "god-enabled-other", "player", target.getName());
+                plugin.getMessageService().sendMessage(sender, "god-disabled-other", "player", target.getName());
             }
         }
         
@@ -86,39 +81,4 @@ public class GodCommand extends BaseCommand {
         }
         return new ArrayList<>();
     }
-    
-    /**
-     * Checks if a player has god mode enabled.
-     * 
-     * @param player The player to check
-     * @return true if the player has god mode enabled
-     */
-    public static boolean isGodMode(Player player) {
-        return godModePlayers.contains(player.getUniqueId());
-    }
-    
-    /**
-     * Adds god mode to a player.
-     * 
-     * @param player The player to enable god mode for
-     */
-    public static void addGodMode(Player player) {
-        godModePlayers.add(player.getUniqueId());
-    }
-    
-    /**
-     * Removes god mode from a player.
-     * 
-     * @param player The player to disable god mode for
-     */
-    public static void removeGodMode(Player player) {
-        godModePlayers.remove(player.getUniqueId());
-    }
-    
-    /**
-     * Clears god mode from all players.
-     */
-    public static void clearAllGodMode() {
-        godModePlayers.clear();
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
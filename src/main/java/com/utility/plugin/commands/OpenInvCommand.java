@@ -1,6 +1,7 @@
 package com.utility.plugin.commands;
 
 import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.OfflineInventoryGUI;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -9,7 +10,8 @@ import java.util.List;
 
 /**
  * Command handler for the /openinv command.
- * Allows players to open another player's inventory.
+ * Allows players to open another player's inventory, also while that player is offline.
+ * Everyone viewing an online player's inventory shares one live session.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
@@ -43,13 +45,15 @@ public class OpenInvCommand extends BaseCommand {
             return false;
         }
         
-        Player target = commandUtils.getTargetPlayer(sender, args[0]);
+        Player player = (Player) sender;
+        Player target = plugin.getServer().getPlayer(args[0]);
         if (target == null) {
+            // Read from the player data file; opens once it has been decoded
+            plugin.getOfflineInventoryService().open(player, args[0], OfflineInventoryGUI.Kind.INVENTORY);
             return true;
         }
         
-        Player player = (Player) sender;
-        player.openInventory(target.getInventory());
+        plugin.getInventorySessionService().open(player, target);
         
         plugin.getMessageService().sendMessage(sender, "inventory-opened", "player", target.getName());
         plugin.getMessageService().sendMessage(target, "inventory-opened-other", "player", player.getName());
@@ -0,0 +1,56 @@
+package com.utility.plugin.commands;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command handler for the /tpaall command.
+ * Allows staff to teleport every online player to their location. The teleports
+ * are spread over several ticks so even large events do not stall the server.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TPAAllCommand extends BaseCommand {
+    
+    /**
+     * Constructs a new TPAAllCommand instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public TPAAllCommand(UtilityPlugin plugin) {
+        super(plugin, "utility.tpaall");
+    }
+    
+    /**
+     * Executes the tpaall command logic.
+     * 
+     * @param sender The command sender (player or console)
+     * @param args Command arguments
+     * @return true if command executed successfully, false otherwise
+     */
+    @Override
+    protected boolean execute(CommandSender sender, String[] args) {
+        if (!commandUtils.isPlayer(sender)) {
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        List<Player> players = new ArrayList<>(plugin.getServer().getOnlinePlayers());
+        players.remove(player);
+        if (players.isEmpty()) {
+            plugin.getMessageService().sendMessage(sender, "tpaall-nobody");
+            return true;
+        }
+        
+        plugin.getMessageService().sendMessage(sender, "tpaall-started", "count", String.valueOf(players.size()));
+        plugin.getTeleportService().teleportAll(player, players, player.getLocation());
+        
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.utility.plugin.commands;
 
 import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.services.TPAService;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -10,6 +11,8 @@ import java.util.List;
 /**
  * Command handler for the /tpa command.
  * Allows players to send teleport requests to other players.
+ * With clustering enabled, requests to players not on this server are sent
+ * to the other servers of the network.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
@@ -43,13 +46,20 @@ public class TPACommand extends BaseCommand {
             return false;
         }
         
+        Player player = (Player) sender;
+        TPAService tpaService = plugin.getTpaService();
+        
+        // Players not on this server may be on another server of the network, which confirms the request
+        if (tpaService.isClusterEnabled() && plugin.getServer().getPlayer(args[0]) == null) {
+            tpaService.sendRemoteTPARequest(player, args[0]);
+            return true;
+        }
+        
         Player target = commandUtils.getTargetPlayer(sender, args[0]);
         if (target == null) {
             return true;
         }
         
-        Player player = (Player) sender;
-        
         // Check if trying to TPA to self
         if (target.equals(player)) {
             plugin.getMessageService().sendMessage(sender, "tpa-self");
@@ -57,7 +67,7 @@ public class TPACommand extends BaseCommand {
         }
         
         // Send TPA request
-        boolean success = plugin.getTpaService().sendTPARequest(player, target);
+        boolean success = tpaService.sendTPARequest(player, target);
         
         if (success) {
             plugin.getMessageService().sendMessage(sender, "tpa-sent", "player", target.getName());
@@ -40,7 +40,11 @@ public class TPADenyCommand extends BaseCommand {
         }
         
         Player player = (Player) sender;
-        plugin.getTpaService().denyTPARequest(player);
+        if (args.length > 0) {
+            plugin.getTpaService().denyTPARequest(player, args[0]);
+        } else {
+            plugin.getTpaService().denyTPARequest(player);
+        }
         
         return true;
     }
@@ -54,6 +58,18 @@ public class TPADenyCommand extends BaseCommand {
      */
     @Override
     protected List<String> tabComplete(CommandSender sender, String[] args) {
-        return new ArrayList<>();
+        List<String> completions = new ArrayList<>();
+        
+        if (args.length == 1 && sender instanceof Player) {
+            // Tab complete the names of players with a pending request
+            String partial = args[0].toLowerCase();
+            for (String name : plugin.getTpaService().getRequestSenderNames((Player) sender)) {
+                if (name.toLowerCase().startsWith(partial)) {
+                    completions.add(name);
+                }
+            }
+        }
+        
+        return completions;
     }
 } 
\ No newline at end of file
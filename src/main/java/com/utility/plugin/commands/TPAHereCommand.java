@@ -0,0 +1,82 @@
+package com.utility.plugin.commands;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command handler for the /tpahere command.
+ * Allows staff to teleport another player to their location.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TPAHereCommand extends BaseCommand {
+    
+    /**
+     * Constructs a new TPAHereCommand instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public TPAHereCommand(UtilityPlugin plugin) {
+        super(plugin, "utility.tpahere");
+    }
+    
+    /**
+     * Executes the tpahere command logic.
+     * 
+     * @param sender The command sender (player or console)
+     * @param args Command arguments
+     * @return true if command executed successfully, false otherwise
+     */
+    @Override
+    protected boolean execute(CommandSender sender, String[] args) {
+        if (!commandUtils.isPlayer(sender)) {
+            return true;
+        }
+        
+        if (args.length < 1) {
+            return false;
+        }
+        
+        Player target = commandUtils.getTargetPlayer(sender, args[0]);
+        if (target == null) {
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        if (target.equals(player)) {
+            plugin.getMessageService().sendMessage(sender, "tpa-self");
+            return true;
+        }
+        
+        plugin.getMessageService().sendMessage(sender, "teleport-here", "player", target.getName());
+        plugin.getMessageService().sendMessage(target, "teleport-here-other", "player", player.getName());
+        plugin.getTeleportService().teleport(target, player.getLocation()).thenAccept(success -> {
+            if (!success && player.isOnline()) {
+                plugin.getMessageService().sendMessage(player, "teleport-failed");
+            }
+        });
+        
+        return true;
+    }
+    
+    /**
+     * Provides tab completion for the tpahere command.
+     * 
+     * @param sender The command sender
+     * @param args The command arguments
+     * @return List of tab completion options
+     */
+    @Override
+    protected List<String> tabComplete(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            return getOnlinePlayerNames(sender, args[0]);
+        }
+        return new ArrayList<>();
+    }
+}
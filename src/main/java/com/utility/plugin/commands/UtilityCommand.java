@@ -0,0 +1,132 @@
+package com.utility.plugin.commands;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.services.MessageQueue;
+import com.utility.plugin.utils.TraceBuffer;
+import org.bukkit.command.CommandSender;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command handler for the /utility command.
+ * Allows staff to reload the configuration without restarting the server, and to see
+ * how much chat the outbound message queue saved. The configuration is parsed off the
+ * main thread and the new settings are swapped in all at once. The event trace is
+ * copied on the main thread and written to a file off it.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UtilityCommand extends BaseCommand {
+    
+    private static final List<String> SUBCOMMANDS = Arrays.asList("reload", "stats", "trace");
+    private static final DateTimeFormatter TRACE_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    /**
+     * Constructs a new UtilityCommand instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public UtilityCommand(UtilityPlugin plugin) {
+        super(plugin, "utility.reload");
+    }
+    
+    /**
+     * Executes the utility command logic.
+     * 
+     * @param sender The command sender (player or console)
+     * @param args Command arguments
+     * @return true if command executed successfully, false otherwise
+     */
+    @Override
+    protected boolean execute(CommandSender sender, String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("stats")) {
+            MessageQueue queue = plugin.getMessageService().getQueue();
+            plugin.getMessageService().sendMessage(sender, "message-stats",
+                    "queued", String.valueOf(queue.getQueuedCount()),
+                    "batches", String.valueOf(queue.getBatchCount()),
+                    "suppressed", String.valueOf(queue.getSuppressedCount()));
+            return true;
+        }
+        if (args.length > 1 && args[0].equalsIgnoreCase("trace") && args[1].equalsIgnoreCase("dump")) {
+            dumpTrace(sender);
+            return true;
+        }
+        if (args.length == 0 || !args[0].equalsIgnoreCase("reload")) {
+            plugin.getMessageService().sendMessage(sender, "utility-usage");
+            return true;
+        }
+        
+        long start = System.nanoTime();
+        plugin.reloadConfiguration().whenComplete((ignored, error) ->
+                // Report back on the main thread, the reload itself completes on an async thread
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        plugin.getLogger().warning("Could not reload the configuration: " + cause.getMessage());
+                        plugin.getMessageService().sendMessage(sender, "config-reload-failed",
+                                "error", String.valueOf(cause.getMessage()));
+                    } else {
+                        plugin.getMessageService().sendMessage(sender, "config-reloaded",
+                                "time", String.valueOf((System.nanoTime() - start) / 1_000_000L));
+                    }
+                }));
+        
+        return true;
+    }
+    
+    /**
+     * Writes the current contents of the trace buffer to a new file in the traces folder.
+     * 
+     * @param sender The command sender to report back to
+     */
+    private void dumpTrace(CommandSender sender) {
+        TraceBuffer.Snapshot snapshot = plugin.getTraceBuffer().snapshot();
+        Path file = plugin.getDataFolder().toPath().resolve("traces")
+                .resolve("trace-" + LocalDateTime.now().format(TRACE_FILE_TIME) + ".txt");
+        
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                snapshot.writeTo(file);
+                plugin.getServer().getScheduler().runTask(plugin, () ->
+                        plugin.getMessageService().sendMessage(sender, "trace-dumped",
+                                "count", String.valueOf(snapshot.size()),
+                                "file", plugin.getDataFolder().toPath().relativize(file).toString()));
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not write the trace to " + file + ": " + e.getMessage());
+                plugin.getServer().getScheduler().runTask(plugin, () ->
+                        plugin.getMessageService().sendMessage(sender, "trace-dump-failed",
+                                "error", String.valueOf(e.getMessage())));
+            }
+        });
+    }
+    
+    /**
+     * Provides tab completion for the utility command.
+     * 
+     * @param sender The command sender
+     * @param args The command arguments
+     * @return List of tab completion options
+     */
+    @Override
+    protected List<String> tabComplete(CommandSender sender, String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (args.length == 1) {
+            for (String subcommand : SUBCOMMANDS) {
+                if (subcommand.startsWith(args[0].toLowerCase())) {
+                    completions.add(subcommand);
+                }
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("trace") && "dump".startsWith(args[1].toLowerCase())) {
+            completions.add("dump");
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,242 @@
+package com.utility.plugin.gui;
+
+import com.utility.plugin.utils.PlayerDataCodec;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * GUI class for a live view of an online player's inventory, shared by everyone watching
+ * that player. The view has the layout of the offline view: the 36 storage slots, then
+ * the armour from boots to helmet and the off-hand.
+ * Viewers never change the view itself: their clicks are applied to the player's inventory
+ * and mirrored into the view at once, so a click always acts on the player's current item
+ * and an item cannot be taken from both sides. The items as of the last sync are kept per
+ * slot, so a sync only writes the slots the player changed since into the view, which
+ * sends just those slots to its viewers.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InventorySession implements InventoryHolder {
+    
+    private final UUID targetId;
+    private final Set<UUID> viewers = new HashSet<>();
+    private final ItemStack[] synced = new ItemStack[PlayerDataCodec.INVENTORY_SIZE];
+    private final Inventory inventory;
+    
+    /**
+     * Constructs a new InventorySession instance.
+     * 
+     * @param target The player whose inventory is viewed
+     */
+    public InventorySession(Player target) {
+        this.targetId = target.getUniqueId();
+        this.inventory = createInventory(target);
+    }
+    
+    /**
+     * Creates the view holding copies of the player's items.
+     * 
+     * @param target The player whose inventory is viewed
+     * @return The created inventory
+     */
+    private Inventory createInventory(Player target) {
+        Inventory inv = Bukkit.createInventory(this, OfflineInventoryGUI.INVENTORY_GUI_SIZE, "§8" + target.getName() + "'s inventory");
+        
+        // Indexed like the view: storage, armour, off-hand
+        ItemStack[] contents = target.getInventory().getContents();
+        for (int slot = 0; slot < synced.length; slot++) {
+            synced[slot] = copy(contents[slot]);
+            inv.setItem(slot, copy(synced[slot]));
+        }
+        
+        ItemStack filler = OfflineInventoryGUI.createFillerItem();
+        for (int slot = synced.length; slot < inv.getSize(); slot++) {
+            inv.setItem(slot, filler);
+        }
+        return inv;
+    }
+    
+    /**
+     * Writes the slots the player changed since the last sync into the view.
+     * 
+     * @param target The player whose inventory is viewed
+     * @return The number of slots that changed
+     */
+    public int sync(Player target) {
+        ItemStack[] contents = target.getInventory().getContents();
+        int changed = 0;
+        for (int slot = 0; slot < synced.length; slot++) {
+            ItemStack actual = normalize(contents[slot]);
+            if (!Objects.equals(actual, synced[slot])) {
+                mirror(slot, actual);
+                changed++;
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Applies a left or right click on a slot of the view to the player's inventory.
+     * A left click picks up, places or swaps the whole stack; a right click picks up half
+     * the stack or places a single item.
+     * 
+     * @param target The player whose inventory is viewed
+     * @param slot The clicked slot, indexed like the player's inventory
+     * @param right Whether it was a right click
+     * @param cursor The item on the viewer's cursor, may be null
+     * @return The item on the viewer's cursor after the click, may be null
+     */
+    public ItemStack click(Player target, int slot, boolean right, ItemStack cursor) {
+        PlayerInventory playerInventory = target.getInventory();
+        ItemStack item = copy(playerInventory.getItem(slot));
+        ItemStack held = copy(cursor);
+        if (held == null && item == null) {
+            return null;
+        }
+        
+        if (held == null) {
+            if (!right || item.getAmount() == 1) {
+                held = item;
+                item = null;
+            } else {
+                // Half rounded up is picked up, like in a chest
+                int taken = (item.getAmount() + 1) / 2;
+                held = item.clone();
+                held.setAmount(taken);
+                item.setAmount(item.getAmount() - taken);
+            }
+        } else if (item == null || item.isSimilar(held)) {
+            int present = item == null ? 0 : item.getAmount();
+            int moved = Math.min(right ? 1 : held.getAmount(), held.getMaxStackSize() - present);
+            if (moved <= 0) {
+                return held;
+            }
+            item = held.clone();
+            item.setAmount(present + moved);
+            if (moved == held.getAmount()) {
+                held = null;
+            } else {
+                held.setAmount(held.getAmount() - moved);
+            }
+        } else {
+            ItemStack swapped = item;
+            item = held;
+            held = swapped;
+        }
+        
+        playerInventory.setItem(slot, copy(item));
+        mirror(slot, item);
+        return held;
+    }
+    
+    /**
+     * Moves the item in a slot of the player's inventory into a viewer's inventory,
+     * as a shift click on the view does. What does not fit stays in the slot.
+     * 
+     * @param target The player whose inventory is viewed
+     * @param slot The clicked slot, indexed like the player's inventory
+     * @param destination The viewer's inventory
+     */
+    public void moveOut(Player target, int slot, Inventory destination) {
+        PlayerInventory playerInventory = target.getInventory();
+        ItemStack item = copy(playerInventory.getItem(slot));
+        if (item == null) {
+            return;
+        }
+        
+        Map<Integer, ItemStack> leftover = destination.addItem(item);
+        ItemStack rest = leftover.isEmpty() ? null : leftover.values().iterator().next();
+        playerInventory.setItem(slot, copy(rest));
+        mirror(slot, rest);
+    }
+    
+    /**
+     * Moves an item into the player's inventory, as a shift click on an item in a
+     * viewer's own inventory does.
+     * 
+     * @param target The player whose inventory is viewed
+     * @param item The item to move
+     * @return What did not fit, may be null
+     */
+    public ItemStack moveIn(Player target, ItemStack item) {
+        Map<Integer, ItemStack> leftover = target.getInventory().addItem(copy(item));
+        // Picks up whichever slots the item went into
+        sync(target);
+        return leftover.isEmpty() ? null : leftover.values().iterator().next();
+    }
+    
+    /**
+     * Checks whether a raw slot of the view may not be changed.
+     * 
+     * @param rawSlot The raw slot of the view
+     * @return true for the filler slots after the off-hand
+     */
+    public boolean isLockedSlot(int rawSlot) {
+        return rawSlot >= synced.length && rawSlot < inventory.getSize();
+    }
+    
+    public void addViewer(UUID viewerId) {
+        viewers.add(viewerId);
+    }
+    
+    /**
+     * Removes a viewer from the session.
+     * 
+     * @param viewerId The viewer's UUID
+     * @return true if the player was viewing the session
+     */
+    public boolean removeViewer(UUID viewerId) {
+        return viewers.remove(viewerId);
+    }
+    
+    public boolean hasViewers() {
+        return !viewers.isEmpty();
+    }
+    
+    /**
+     * Gets the players viewing the session.
+     * 
+     * @return A copy of the viewers' UUIDs
+     */
+    public List<UUID> getViewers() {
+        return new ArrayList<>(viewers);
+    }
+    
+    public UUID getTargetId() {
+        return targetId;
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+    
+    private void mirror(int slot, ItemStack item) {
+        synced[slot] = copy(item);
+        inventory.setItem(slot, copy(item));
+    }
+    
+    private static ItemStack normalize(ItemStack item) {
+        return item == null || item.isEmpty() ? null : item;
+    }
+    
+    private static ItemStack copy(ItemStack item) {
+        // Inventories hand out live mirrors of their items, so only copies are kept
+        ItemStack normalized = normalize(item);
+        return normalized != null ? normalized.clone() : null;
+    }
+}
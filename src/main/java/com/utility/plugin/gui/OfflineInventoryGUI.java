@@ -0,0 +1,150 @@
+package com.utility.plugin.gui;
+
+import com.utility.plugin.models.OfflinePlayerData;
+import com.utility.plugin.utils.PlayerDataCodec;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Objects;
+
+/**
+ * GUI class showing the inventory or ender chest of an offline player.
+ * The inventory view has the 36 storage slots first, then the armour from boots to helmet
+ * and the off-hand; the rest of the last row is filled with panes that cannot be taken.
+ * The items as they were opened are kept, so closing the view only saves real changes.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OfflineInventoryGUI implements InventoryHolder {
+    
+    /**
+     * The part of the player data shown.
+     */
+    public enum Kind {
+        INVENTORY,
+        ENDER_CHEST
+    }
+    
+    static final int INVENTORY_GUI_SIZE = 45; // 5 rows of 9 slots
+    
+    private final OfflinePlayerData data;
+    private final Kind kind;
+    private final boolean editable;
+    private final ItemStack[] original;
+    private final Inventory inventory;
+    
+    /**
+     * Constructs a new OfflineInventoryGUI instance.
+     * 
+     * @param data The decoded player data
+     * @param kind The part of the player data to show
+     * @param editable Whether changes are saved when the view is closed
+     */
+    public OfflineInventoryGUI(OfflinePlayerData data, Kind kind, boolean editable) {
+        this.data = data;
+        this.kind = kind;
+        this.editable = editable;
+        this.original = kind == Kind.INVENTORY ? data.getInventory() : data.getEnderChest();
+        this.inventory = createInventory();
+    }
+    
+    /**
+     * Creates the inventory holding copies of the player's items.
+     * 
+     * @return The created inventory
+     */
+    private Inventory createInventory() {
+        int size = kind == Kind.INVENTORY ? INVENTORY_GUI_SIZE : PlayerDataCodec.ENDER_CHEST_SIZE;
+        String title = kind == Kind.INVENTORY ? "§8" + data.getName() + "'s inventory" : "§8" + data.getName() + "'s ender chest";
+        Inventory inv = Bukkit.createInventory(this, size, title);
+        
+        for (int i = 0; i < original.length; i++) {
+            if (original[i] != null) {
+                inv.setItem(i, original[i].clone());
+            }
+        }
+        
+        ItemStack filler = createFillerItem();
+        for (int i = original.length; i < size; i++) {
+            inv.setItem(i, filler);
+        }
+        return inv;
+    }
+    
+    /**
+     * Creates the pane filling the slots that belong to no player slot.
+     * 
+     * @return The filler item
+     */
+    static ItemStack createFillerItem() {
+        ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName("§7");
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+    
+    /**
+     * Gets the items currently in the view, indexed like the player data.
+     * 
+     * @return The items; null for empty slots
+     */
+    public ItemStack[] readContents() {
+        ItemStack[] contents = new ItemStack[original.length];
+        for (int i = 0; i < contents.length; i++) {
+            ItemStack item = inventory.getItem(i);
+            contents[i] = item == null || item.isEmpty() ? null : item;
+        }
+        return contents;
+    }
+    
+    /**
+     * Checks whether items differ from the ones the view was opened with.
+     * 
+     * @param contents The items read with {@link #readContents()}
+     * @return true if any slot changed
+     */
+    public boolean isChanged(ItemStack[] contents) {
+        for (int i = 0; i < contents.length; i++) {
+            if (!Objects.equals(contents[i], original[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks whether a raw slot of the view may not be changed.
+     * 
+     * @param rawSlot The raw slot of the view
+     * @return true for filler slots, and for every slot of a read-only view
+     */
+    public boolean isLockedSlot(int rawSlot) {
+        return rawSlot < inventory.getSize() && (!editable || rawSlot >= original.length);
+    }
+    
+    public OfflinePlayerData getData() {
+        return data;
+    }
+    
+    public Kind getKind() {
+        return kind;
+    }
+    
+    public boolean isEditable() {
+        return editable;
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+}
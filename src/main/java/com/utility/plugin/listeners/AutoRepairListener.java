@@ -0,0 +1,62 @@
+package com.utility.plugin.listeners;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.utils.TraceEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerItemDamageEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Event listener for auto-repair functionality.
+ * Absorbs item damage of players with auto-repair enabled and forgets them when they leave.
+ * Registered by the RepairService only while at least one player has auto-repair.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class AutoRepairListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new AutoRepairListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public AutoRepairListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Cancels item damage of players with auto-repair enabled.
+     * 
+     * @param event The player item damage event
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPlayerItemDamage(PlayerItemDamageEvent event) {
+        Player player = event.getPlayer();
+        
+        // Check if the player has auto-repair enabled
+        if (plugin.getRepairService().absorbDamage(player, event.getDamage())) {
+            // Cancel the damage event
+            event.setCancelled(true);
+            
+            // Trace the absorbed damage for debugging
+            plugin.getTraceBuffer().record(TraceEvent.ITEM_DAMAGE_ABSORBED, player.getUniqueId(), event.getDamage());
+        }
+    }
+    
+    /**
+     * Turns auto-repair off when a player leaves the server.
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getRepairService().disableAutoRepair(event.getPlayer());
+    }
+}
@@ -0,0 +1,46 @@
+package com.utility.plugin.listeners;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.utils.TraceEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+/**
+ * Event listener restoring god mode for joining players.
+ * God mode is stored on the player, so only players that had it enabled when they
+ * left are loaded back into memory; everyone else costs one persistent data lookup.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GodModeJoinListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new GodModeJoinListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public GodModeJoinListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Restores god mode before other join handlers run, so the player is protected
+     * from the first tick they are in the world.
+     * 
+     * @param event The player join event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        if (plugin.getGodModeService().restore(player)) {
+            plugin.getTraceBuffer().record(TraceEvent.GOD_RESTORED, player.getUniqueId(), 0);
+        }
+    }
+}
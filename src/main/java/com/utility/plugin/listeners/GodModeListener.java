@@ -1,7 +1,8 @@
 package com.utility.plugin.listeners;
 
 import com.utility.plugin.UtilityPlugin;
-import com.utility.plugin.commands.GodCommand;
+import com.utility.plugin.models.GodModePolicy;
+import com.utility.plugin.utils.TraceEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -12,7 +13,8 @@ import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Event listener for god mode functionality.
- * Handles damage prevention, hunger prevention, and cleanup when players leave.
+ * Handles damage prevention, hunger prevention, and unloading players that leave.
+ * Registered by the GodModeService only while at least one player has god mode.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
@@ -32,7 +34,7 @@ public class GodModeListener implements Listener {
     }
     
     /**
-     * Prevents damage to players with god mode enabled.
+     * Prevents damage to players with god mode enabled, for the causes their policy blocks.
      * 
      * @param event The entity damage event
      */
@@ -45,14 +47,14 @@ public class GodModeListener implements Listener {
         
         Player player = (Player) event.getEntity();
         
-        // Check if the player has god mode enabled
-        if (GodCommand.isGodMode(player)) {
+        // Check if the player's god mode policy blocks this cause
+        GodModePolicy policy = plugin.getGodModeService().getPolicy(player);
+        if (policy != null && policy.blocks(event.getCause())) {
             // Cancel the damage event
             event.setCancelled(true);
             
-            // Log the prevented damage for debugging (optional)
-            plugin.getLogger().fine("Prevented damage to player " + player.getName() + 
-                " (God Mode) - Damage type: " + event.getCause());
+            // Trace the prevented damage for debugging, without building a log line
+            plugin.getTraceBuffer().record(TraceEvent.GOD_DAMAGE_CANCELLED, player.getUniqueId(), event.getCause().ordinal());
         }
     }
     
@@ -77,18 +79,18 @@ public class GodModeListener implements Listener {
         }
         
         // Check if the player has god mode enabled
-        if (GodCommand.isGodMode(player)) {
+        if (plugin.getGodModeService().isGodMode(player)) {
             // Cancel the food level change event
             event.setCancelled(true);
             
-            // Log the prevented hunger loss for debugging (optional)
-            plugin.getLogger().fine("Prevented hunger loss for player " + player.getName() + 
-                " (God Mode)");
+            // Trace the prevented hunger loss for debugging
+            plugin.getTraceBuffer().record(TraceEvent.GOD_HUNGER_CANCELLED, player.getUniqueId(), event.getFoodLevel());
         }
     }
     
     /**
-     * Cleans up god mode when a player leaves the server.
+     * Drops a player from the god mode cache when they leave the server.
+     * Their god mode stays stored on the player and is restored when they join again.
      * 
      * @param event The player quit event
      */
@@ -96,13 +98,11 @@ public class GodModeListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         
-        // Remove god mode from the player when they leave
-        if (GodCommand.isGodMode(player)) {
-            GodCommand.removeGodMode(player);
+        // Unload the player from memory when they leave
+        if (plugin.getGodModeService().unload(player)) {
             
-            // Log the cleanup for debugging (optional)
-            plugin.getLogger().fine("Removed god mode from player " + player.getName() + 
-                " (Player left)");
+            // Trace the cleanup for debugging
+            plugin.getTraceBuffer().record(TraceEvent.GOD_UNLOADED, player.getUniqueId(), 0);
         }
     }
 } 
\ No newline at end of file
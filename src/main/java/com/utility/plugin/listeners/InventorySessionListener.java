@@ -0,0 +1,119 @@
+package com.utility.plugin.listeners;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.InventorySession;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Event listener for live inventory sessions.
+ * Hands clicks on a session view to the InventorySessionService instead of letting the
+ * server apply them to the view, removes viewers who close a session and ends the
+ * session of a player who leaves.
+ * Registered by the InventorySessionService only while at least one session is open.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InventorySessionListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new InventorySessionListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public InventorySessionListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Applies clicks that touch a session view to the viewed player's inventory.
+     * The server's own handling is cancelled, as it would act on the view, which can be
+     * a tick behind the player's inventory.
+     * 
+     * @param event The inventory click event
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onInventoryClick(InventoryClickEvent event) {
+        Inventory top = event.getView().getTopInventory();
+        InventoryHolder holder = top.getHolder();
+        if (!(holder instanceof InventorySession)) {
+            return;
+        }
+        
+        InventorySession session = (InventorySession) holder;
+        int rawSlot = event.getRawSlot();
+        ClickType click = event.getClick();
+        if (rawSlot >= 0 && rawSlot < top.getSize()) {
+            event.setCancelled(true);
+            if (!session.isLockedSlot(rawSlot)) {
+                plugin.getInventorySessionService().handleClick(session, event.getWhoClicked(), rawSlot, click);
+            }
+        } else if (click.isShiftClick() && event.getClickedInventory() != null) {
+            event.setCancelled(true);
+            ItemStack item = event.getCurrentItem();
+            if (item != null && !item.isEmpty()) {
+                event.getClickedInventory().setItem(event.getSlot(),
+                        plugin.getInventorySessionService().handleMoveIn(session, item));
+            }
+        } else if (click == ClickType.DOUBLE_CLICK) {
+            // Collecting onto the cursor would also take matching items from the view
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Cancels drags over a session view, which would change the view instead of the player's inventory.
+     * 
+     * @param event The inventory drag event
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        Inventory top = event.getView().getTopInventory();
+        if (!(top.getHolder() instanceof InventorySession)) {
+            return;
+        }
+        
+        for (int rawSlot : event.getRawSlots()) {
+            if (rawSlot < top.getSize()) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Removes the viewer from the session they closed.
+     * 
+     * @param event The inventory close event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof InventorySession) {
+            plugin.getInventorySessionService().handleClose((InventorySession) holder, event.getPlayer());
+        }
+    }
+    
+    /**
+     * Ends the session of a leaving player, before their data is saved.
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getInventorySessionService().endSession(event.getPlayer());
+    }
+}
@@ -0,0 +1,39 @@
+package com.utility.plugin.listeners;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Event listener for the outbound message queue.
+ * Sends the chat messages queued during a tick once the tick has finished.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MessageFlushListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new MessageFlushListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public MessageFlushListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Flushes the queued messages at the end of every tick.
+     * 
+     * @param event The server tick end event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServerTickEnd(ServerTickEndEvent event) {
+        plugin.getMessageService().flush();
+    }
+}
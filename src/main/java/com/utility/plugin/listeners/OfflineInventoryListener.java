@@ -0,0 +1,127 @@
+package com.utility.plugin.listeners;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.OfflineInventoryGUI;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Event listener for offline inventory views.
+ * Keeps filler slots and read-only views unchanged, saves edits when a view is closed
+ * or its player logs in, and drops cached player data once the player joins or leaves.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OfflineInventoryListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new OfflineInventoryListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public OfflineInventoryListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Cancels clicks that would change a filler slot or a read-only view.
+     * 
+     * @param event The inventory click event
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onInventoryClick(InventoryClickEvent event) {
+        InventoryHolder holder = event.getView().getTopInventory().getHolder();
+        if (!(holder instanceof OfflineInventoryGUI)) {
+            return;
+        }
+        
+        OfflineInventoryGUI gui = (OfflineInventoryGUI) holder;
+        // Clicks in the viewer's own inventory can still move items into a read-only view
+        if (!gui.isEditable() || gui.isLockedSlot(event.getRawSlot())) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Cancels drags over a filler slot or a read-only view.
+     * 
+     * @param event The inventory drag event
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        InventoryHolder holder = event.getView().getTopInventory().getHolder();
+        if (!(holder instanceof OfflineInventoryGUI)) {
+            return;
+        }
+        
+        OfflineInventoryGUI gui = (OfflineInventoryGUI) holder;
+        for (int rawSlot : event.getRawSlots()) {
+            if (gui.isLockedSlot(rawSlot)) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Saves the edits made in an offline inventory view.
+     * 
+     * @param event The inventory close event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof OfflineInventoryGUI) {
+            plugin.getOfflineInventoryService().handleClose((OfflineInventoryGUI) holder, event.getPlayer());
+        }
+    }
+    
+    /**
+     * Writes the edits made to a player's offline data before the server loads it.
+     * The login is refused if the edits cannot be written.
+     * 
+     * @param event The player login event
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        if (!plugin.getOfflineInventoryService().handleLogin(event.getPlayer())) {
+            event.disallow(PlayerLoginEvent.Result.KICK_OTHER, plugin.getMessageService().formatMessage(
+                    plugin.getConfigService().getMessage("offline-inventory-login-failed")));
+        }
+    }
+    
+    /**
+     * Drops the cached data of a joining player and closes views of their offline data.
+     * 
+     * @param event The player join event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        plugin.getOfflineInventoryService().invalidate(event.getPlayer(), true);
+    }
+    
+    /**
+     * Drops the cached data of a leaving player, whose data file is about to be saved.
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getOfflineInventoryService().invalidate(event.getPlayer(), false);
+    }
+}
@@ -0,0 +1,51 @@
+package com.utility.plugin.listeners;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Event listener for TPA functionality.
+ * Purges pending teleport requests of players that leave the server and
+ * completes accepted requests of players arriving from another server.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TPAListener implements Listener {
+    
+    private final UtilityPlugin plugin;
+    
+    /**
+     * Constructs a new TPAListener instance.
+     * 
+     * @param plugin The main plugin instance
+     */
+    public TPAListener(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Teleports a player who was sent here to complete an accepted request.
+     * 
+     * @param event The player join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        plugin.getTpaService().handlePlayerJoin(event.getPlayer());
+    }
+    
+    /**
+     * Removes every request sent by or to a player when they leave the server.
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getTpaService().handlePlayerQuit(event.getPlayer());
+    }
+}
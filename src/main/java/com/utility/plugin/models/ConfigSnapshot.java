@@ -0,0 +1,242 @@
+package com.utility.plugin.models;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, typed copy of config.yml.
+ * Every setting is parsed once when the snapshot is built, so reading a setting
+ * is a plain field read instead of a string-keyed lookup in the configuration tree.
+ * 
+ * @author UtilityPlugin Team
+ */
+public final class ConfigSnapshot {
+    
+    private final String prefix;
+    private final boolean autoReloadEnabled;
+    private final Map<String, String> messages;
+    private final boolean localeEnabled;
+    private final int localeCacheSize;
+    private final boolean chatCoalesceEnabled;
+    private final int chatDedupeWindow;
+    private final int traceBufferSize;
+    private final int tpaTimeout;
+    private final int tpaCooldown;
+    private final int teleportPrefetchRadius;
+    private final long massTeleportTickBudget;
+    private final int massTeleportProgressInterval;
+    private final boolean tpaPersistenceEnabled;
+    private final int tpaJournalFlushInterval;
+    private final int tpaJournalCompactThreshold;
+    private final boolean clusterEnabled;
+    private final String clusterNodeId;
+    private final String clusterTransport;
+    private final boolean godHungerEnabled;
+    private final boolean godFallDamageEnabled;
+    private final Map<String, GodModePolicy> godPolicies;
+    private final long fixTickBudget;
+    private final int autoRepairThreshold;
+    private final int offlineInventoryCacheSize;
+    private final int offlineInventoryCacheTtl;
+    
+    private ConfigSnapshot(Configuration config) {
+        this.prefix = config.getString("prefix", "&8[&bUtilityPlugin&8] &r");
+        this.autoReloadEnabled = config.getBoolean("auto-reload", true);
+        this.messages = Collections.unmodifiableMap(readMessages(config));
+        this.localeEnabled = config.getBoolean("locale.enabled", true);
+        this.localeCacheSize = Math.max(1, config.getInt("locale.cache-size", 4));
+        this.chatCoalesceEnabled = config.getBoolean("chat.coalesce", true);
+        this.chatDedupeWindow = Math.max(0, config.getInt("chat.dedupe-window-ticks", 40));
+        this.traceBufferSize = Math.max(1, config.getInt("trace.buffer-size", 4096));
+        this.tpaTimeout = config.getInt("tpa.timeout", 60);
+        this.tpaCooldown = config.getInt("tpa.cooldown", 30);
+        this.teleportPrefetchRadius = Math.max(0, config.getInt("tpa.prefetch-radius", 1));
+        this.massTeleportTickBudget = Math.max(1L, config.getLong("tpa.mass-teleport.tick-budget-nanos", 2000000L));
+        this.massTeleportProgressInterval = Math.max(1, config.getInt("tpa.mass-teleport.progress-interval-ticks", 20));
+        this.tpaPersistenceEnabled = config.getBoolean("tpa.persistence.enabled", true);
+        this.tpaJournalFlushInterval = Math.max(1, config.getInt("tpa.persistence.flush-interval-ticks", 20));
+        this.tpaJournalCompactThreshold = config.getInt("tpa.persistence.compact-threshold", 100000);
+        this.clusterEnabled = config.getBoolean("cluster.enabled", false);
+        this.clusterNodeId = config.getString("cluster.node-id", "server");
+        this.clusterTransport = config.getString("cluster.transport", "plugin-messaging");
+        this.godHungerEnabled = config.getBoolean("god.hunger", true);
+        this.godFallDamageEnabled = config.getBoolean("god.fall-damage", true);
+        this.godPolicies = Collections.unmodifiableMap(readGodPolicies(config, godFallDamageEnabled));
+        this.fixTickBudget = Math.max(1L, config.getLong("fix.tick-budget-nanos", 1000000L));
+        this.autoRepairThreshold = Math.max(1, config.getInt("fix.auto-repair-threshold", 64));
+        this.offlineInventoryCacheSize = Math.max(1, config.getInt("offline-inventory.cache-size", 16));
+        this.offlineInventoryCacheTtl = Math.max(1, config.getInt("offline-inventory.cache-ttl-seconds", 120));
+    }
+    
+    /**
+     * Parses a configuration into a snapshot.
+     * 
+     * @param config The loaded configuration, with the bundled defaults attached
+     * @return The snapshot
+     */
+    public static ConfigSnapshot of(Configuration config) {
+        return new ConfigSnapshot(config);
+    }
+    
+    private static Map<String, String> readMessages(Configuration config) {
+        Map<String, String> messages = new HashMap<>();
+        
+        // Messages only present in the bundled defaults are not returned by getKeys, so read both
+        Configuration defaults = config.getDefaults();
+        if (defaults != null) {
+            putMessages(defaults.getConfigurationSection("messages"), messages);
+        }
+        putMessages(config.getConfigurationSection("messages"), messages);
+        return messages;
+    }
+    
+    private static Map<String, GodModePolicy> readGodPolicies(Configuration config, boolean fallDamageEnabled) {
+        Map<String, GodModePolicy> policies = new LinkedHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("god.policies");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                policies.put(name, GodModePolicy.compile(name, section.getStringList(name + ".causes")));
+            }
+        }
+        
+        // The default policy applies to players without a policy permission; fall-damage narrows it
+        GodModePolicy fallback = policies.remove(GodModePolicy.DEFAULT);
+        if (fallback == null) {
+            fallback = GodModePolicy.compile(GodModePolicy.DEFAULT, Collections.singletonList(GodModePolicy.ALL_CAUSES));
+        }
+        policies.put(GodModePolicy.DEFAULT, fallDamageEnabled ? fallback : fallback.without(DamageCause.FALL));
+        return policies;
+    }
+    
+    private static void putMessages(ConfigurationSection section, Map<String, String> messages) {
+        if (section == null) {
+            return;
+        }
+        for (String path : section.getKeys(false)) {
+            String message = section.getString(path);
+            if (message != null) {
+                messages.put(path, message);
+            }
+        }
+    }
+    
+    public String getPrefix() {
+        return prefix;
+    }
+    
+    public boolean isAutoReloadEnabled() {
+        return autoReloadEnabled;
+    }
+    
+    public Map<String, String> getMessages() {
+        return messages;
+    }
+    
+    public boolean isLocaleEnabled() {
+        return localeEnabled;
+    }
+    
+    public int getLocaleCacheSize() {
+        return localeCacheSize;
+    }
+    
+    public boolean isChatCoalesceEnabled() {
+        return chatCoalesceEnabled;
+    }
+    
+    public int getChatDedupeWindow() {
+        return chatDedupeWindow;
+    }
+    
+    public int getTraceBufferSize() {
+        return traceBufferSize;
+    }
+    
+    public int getTPATimeout() {
+        return tpaTimeout;
+    }
+    
+    public int getTPACooldown() {
+        return tpaCooldown;
+    }
+    
+    public int getTeleportPrefetchRadius() {
+        return teleportPrefetchRadius;
+    }
+    
+    public long getMassTeleportTickBudget() {
+        return massTeleportTickBudget;
+    }
+    
+    public int getMassTeleportProgressInterval() {
+        return massTeleportProgressInterval;
+    }
+    
+    public boolean isTPAPersistenceEnabled() {
+        return tpaPersistenceEnabled;
+    }
+    
+    public int getTPAJournalFlushInterval() {
+        return tpaJournalFlushInterval;
+    }
+    
+    public int getTPAJournalCompactThreshold() {
+        return tpaJournalCompactThreshold;
+    }
+    
+    public boolean isClusterEnabled() {
+        return clusterEnabled;
+    }
+    
+    public String getClusterNodeId() {
+        return clusterNodeId;
+    }
+    
+    public String getClusterTransport() {
+        return clusterTransport;
+    }
+    
+    public boolean isGodHungerEnabled() {
+        return godHungerEnabled;
+    }
+    
+    public boolean isGodFallDamageEnabled() {
+        return godFallDamageEnabled;
+    }
+    
+    /**
+     * Gets the god mode policies in the order they are matched; the default policy is last.
+     * 
+     * @return Unmodifiable map of policy names to policies
+     */
+    public Map<String, GodModePolicy> getGodPolicies() {
+        return godPolicies;
+    }
+    
+    public long getFixTickBudget() {
+        return fixTickBudget;
+    }
+    
+    public int getAutoRepairThreshold() {
+        return autoRepairThreshold;
+    }
+    
+    public int getOfflineInventoryCacheSize() {
+        return offlineInventoryCacheSize;
+    }
+    
+    /**
+     * Gets how long a decoded offline player's items are kept, in seconds.
+     * 
+     * @return The cache lifetime in seconds
+     */
+    public int getOfflineInventoryCacheTtl() {
+        return offlineInventoryCacheTtl;
+    }
+}
@@ -0,0 +1,99 @@
+package com.utility.plugin.models;
+
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Model class representing a god mode policy: the damage causes it blocks.
+ * The causes are compiled into a bitmask over the cause ordinals, so checking a
+ * damage event against the policy is a single bit test.
+ * Players get the first policy whose permission they were given, or the default policy.
+ * 
+ * @author UtilityPlugin Team
+ */
+public final class GodModePolicy {
+    
+    public static final String DEFAULT = "default";
+    public static final String ALL_CAUSES = "ALL";
+    
+    private final String name;
+    private final long mask;
+    
+    private GodModePolicy(String name, long mask) {
+        this.name = name;
+        this.mask = mask;
+    }
+    
+    /**
+     * Compiles a policy from cause names. Unknown names are ignored; the configuration
+     * validator reports them.
+     * 
+     * @param name The policy name
+     * @param causes DamageCause names, or ALL for every cause
+     * @return The compiled policy
+     */
+    public static GodModePolicy compile(String name, Collection<String> causes) {
+        long mask = 0L;
+        for (String cause : causes) {
+            if (ALL_CAUSES.equalsIgnoreCase(cause)) {
+                for (DamageCause value : DamageCause.values()) {
+                    mask |= bit(value);
+                }
+            } else if (isValidCause(cause)) {
+                mask |= bit(DamageCause.valueOf(cause.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return new GodModePolicy(name, mask);
+    }
+    
+    /**
+     * Checks whether a name can be used in a policy.
+     * 
+     * @param cause The cause name
+     * @return true for ALL and every DamageCause name
+     */
+    public static boolean isValidCause(String cause) {
+        if (ALL_CAUSES.equalsIgnoreCase(cause)) {
+            return true;
+        }
+        try {
+            return DamageCause.valueOf(cause.toUpperCase(Locale.ROOT)).ordinal() < Long.SIZE;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    public boolean blocks(DamageCause cause) {
+        return (mask & bit(cause)) != 0L;
+    }
+    
+    /**
+     * Returns this policy without one cause.
+     * 
+     * @param cause The cause to let through
+     * @return The narrowed policy
+     */
+    public GodModePolicy without(DamageCause cause) {
+        return new GodModePolicy(name, mask & ~bit(cause));
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Gets the permission granting this policy.
+     * 
+     * @return The permission, utility.god.policy.&lt;name&gt;
+     */
+    public String getPermission() {
+        return "utility.god.policy." + name;
+    }
+    
+    private static long bit(DamageCause cause) {
+        // A cause past the 64th never matches rather than aliasing another cause's bit
+        return cause.ordinal() < Long.SIZE ? 1L << cause.ordinal() : 0L;
+    }
+}
@@ -0,0 +1,60 @@
+package com.utility.plugin.models;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+/**
+ * Model class holding the items decoded from an offline player's data file.
+ * The item arrays are shared and must be copied before they are changed.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class OfflinePlayerData {
+    
+    private final UUID playerId;
+    private final String name;
+    private final int dataVersion;
+    private final ItemStack[] inventory;
+    private final ItemStack[] enderChest;
+    private final long loadedAt;
+    
+    public OfflinePlayerData(UUID playerId, String name, int dataVersion, ItemStack[] inventory, ItemStack[] enderChest,
+                             long loadedAt) {
+        this.playerId = playerId;
+        this.name = name;
+        this.dataVersion = dataVersion;
+        this.inventory = inventory;
+        this.enderChest = enderChest;
+        this.loadedAt = loadedAt;
+    }
+    
+    public UUID getPlayerId() {
+        return playerId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getDataVersion() {
+        return dataVersion;
+    }
+    
+    public ItemStack[] getInventory() {
+        return inventory;
+    }
+    
+    public ItemStack[] getEnderChest() {
+        return enderChest;
+    }
+    
+    /**
+     * Gets when the file was decoded, for expiring the cached data.
+     * 
+     * @return The time in milliseconds since the epoch
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+}
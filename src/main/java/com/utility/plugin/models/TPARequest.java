@@ -1,33 +1,67 @@
 package com.utility.plugin.models;
 
-import org.bukkit.entity.Player;
+import java.util.UUID;
 
 /**
  * Model class representing a TPA (Teleport Request) between two players.
+ * Only the UUIDs of both players are kept, so a pending request never keeps a
+ * disconnected player reachable; players are resolved when the request is used.
+ * Requests received from another cluster node also carry the sender's name and node,
+ * since the sender cannot be resolved on this server.
  * 
  * @author UtilityPlugin Team
  */
 public class TPARequest {
     
-    private final Player from;
-    private final Player to;
-    private final long timestamp;
+    private final UUID fromId;
+    private final UUID toId;
+    private final long createdTick;
+    private final String fromName;
+    private final String originNode;
     
-    public TPARequest(Player from, Player to, long timestamp) {
-        this.from = from;
-        this.to = to;
-        this.timestamp = timestamp;
+    public TPARequest(UUID fromId, UUID toId, long createdTick) {
+        this(fromId, null, toId, null, createdTick);
     }
     
-    public Player getFrom() {
-        return from;
+    public TPARequest(UUID fromId, String fromName, UUID toId, String originNode, long createdTick) {
+        this.fromId = fromId;
+        this.fromName = fromName;
+        this.toId = toId;
+        this.originNode = originNode;
+        this.createdTick = createdTick;
     }
     
-    public Player getTo() {
-        return to;
+    public UUID getFromId() {
+        return fromId;
     }
     
-    public long getTimestamp() {
-        return timestamp;
+    public UUID getToId() {
+        return toId;
     }
-} 
\ No newline at end of file
+    
+    public long getCreatedTick() {
+        return createdTick;
+    }
+    
+    /**
+     * Gets the name of the sender of a remote request.
+     * 
+     * @return The sender's name, or null for requests sent on this server
+     */
+    public String getFromName() {
+        return fromName;
+    }
+    
+    /**
+     * Gets the cluster node the sender is on.
+     * 
+     * @return The node name, or null for requests sent on this server
+     */
+    public String getOriginNode() {
+        return originNode;
+    }
+    
+    public boolean isRemote() {
+        return originNode != null;
+    }
+}
@@ -0,0 +1,225 @@
+package com.utility.plugin.models;
+
+import com.utility.plugin.utils.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dual-indexed store for pending TPA requests.
+ * Requests are indexed by sender and, per recipient, kept in an ordered queue
+ * so that every lookup, insert and removal runs in constant time.
+ * Each entry owns the expiry timeout of its request, which is cancelled as soon
+ * as the request leaves the store.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TPARequestStore {
+    
+    private final Map<UUID, Node> bySender = new HashMap<>();
+    private final Map<UUID, Queue> byTarget = new HashMap<>();
+    
+    /**
+     * Adds a request, replacing any pending request from the same sender.
+     * 
+     * @param request The request to add
+     * @param expiry The expiry timeout of the request, or null if it never expires
+     * @return The replaced request, or null if there was none
+     */
+    public TPARequest put(TPARequest request, TimingWheel.Timeout<?> expiry) {
+        UUID senderId = request.getFromId();
+        TPARequest previous = remove(senderId);
+        
+        UUID targetId = request.getToId();
+        Queue queue = byTarget.computeIfAbsent(targetId, id -> new Queue());
+        Node node = new Node(request, targetId, expiry);
+        queue.append(node);
+        bySender.put(senderId, node);
+        
+        return previous;
+    }
+    
+    /**
+     * Gets the pending request sent by a player.
+     * 
+     * @param senderId The UUID of the sender
+     * @return The pending request, or null if there is none
+     */
+    public TPARequest getBySender(UUID senderId) {
+        Node node = bySender.get(senderId);
+        return node == null ? null : node.request;
+    }
+    
+    /**
+     * Gets the pending request from a specific sender to a specific recipient.
+     * 
+     * @param senderId The UUID of the sender
+     * @param targetId The UUID of the recipient
+     * @return The pending request, or null if the sender has no request to this recipient
+     */
+    public TPARequest get(UUID senderId, UUID targetId) {
+        Node node = bySender.get(senderId);
+        return node != null && node.targetId.equals(targetId) ? node.request : null;
+    }
+    
+    /**
+     * Gets the most recent pending request sent to a player.
+     * 
+     * @param targetId The UUID of the recipient
+     * @return The newest pending request, or null if there is none
+     */
+    public TPARequest getLatestTo(UUID targetId) {
+        Queue queue = byTarget.get(targetId);
+        return queue == null ? null : queue.tail.request;
+    }
+    
+    /**
+     * Gets all pending requests sent to a player, oldest first.
+     * 
+     * @param targetId The UUID of the recipient
+     * @return List of pending requests
+     */
+    public List<TPARequest> getRequestsTo(UUID targetId) {
+        List<TPARequest> requests = new ArrayList<>();
+        Queue queue = byTarget.get(targetId);
+        if (queue != null) {
+            for (Node node = queue.head; node != null; node = node.next) {
+                requests.add(node.request);
+            }
+        }
+        return requests;
+    }
+    
+    /**
+     * Removes the pending request sent by a player and cancels its expiry.
+     * 
+     * @param senderId The UUID of the sender
+     * @return The removed request, or null if there was none
+     */
+    public TPARequest remove(UUID senderId) {
+        Node node = bySender.remove(senderId);
+        if (node == null) {
+            return null;
+        }
+        
+        if (node.expiry != null) {
+            node.expiry.cancel();
+        }
+        
+        Queue queue = byTarget.get(node.targetId);
+        queue.unlink(node);
+        if (queue.head == null) {
+            byTarget.remove(node.targetId);
+        }
+        return node.request;
+    }
+    
+    /**
+     * Removes every pending request sent to a player and cancels their expiries.
+     * 
+     * @param targetId The UUID of the recipient
+     * @return The removed requests, oldest first
+     */
+    public List<TPARequest> removeAllTo(UUID targetId) {
+        List<TPARequest> removed = new ArrayList<>();
+        Queue queue = byTarget.remove(targetId);
+        if (queue == null) {
+            return removed;
+        }
+        
+        for (Node node = queue.head; node != null; node = node.next) {
+            bySender.remove(node.request.getFromId());
+            if (node.expiry != null) {
+                node.expiry.cancel();
+            }
+            removed.add(node.request);
+        }
+        return removed;
+    }
+    
+    /**
+     * Gets the number of pending requests.
+     * 
+     * @return The number of pending requests
+     */
+    public int size() {
+        return bySender.size();
+    }
+    
+    /**
+     * Gets the number of players with at least one incoming request.
+     * 
+     * @return The number of recipients
+     */
+    public int targetCount() {
+        return byTarget.size();
+    }
+    
+    /**
+     * Removes all pending requests and cancels their expiries.
+     */
+    public void clear() {
+        for (Node node : bySender.values()) {
+            if (node.expiry != null) {
+                node.expiry.cancel();
+            }
+        }
+        bySender.clear();
+        byTarget.clear();
+    }
+    
+    /**
+     * Entry of a recipient's queue, linked to its neighbours for constant-time removal.
+     */
+    private static final class Node {
+        private final TPARequest request;
+        private final UUID targetId;
+        private final TimingWheel.Timeout<?> expiry;
+        private Node prev;
+        private Node next;
+        
+        private Node(TPARequest request, UUID targetId, TimingWheel.Timeout<?> expiry) {
+            this.request = request;
+            this.targetId = targetId;
+            this.expiry = expiry;
+        }
+    }
+    
+    /**
+     * Doubly linked queue of the requests sent to one recipient.
+     */
+    private static final class Queue {
+        private Node head;
+        private Node tail;
+        
+        private void append(Node node) {
+            node.prev = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+        
+        private void unlink(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.utility.plugin.models;
+
+/**
+ * Timing metrics of the asynchronous teleport pipeline.
+ * Tracks how long chunk prefetching and the teleport itself take.
+ * Updated from main-thread future callbacks only.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TeleportMetrics {
+    
+    private long prefetchCount;
+    private long prefetchTotalNanos;
+    private long prefetchMaxNanos;
+    private long teleportCount;
+    private long teleportTotalNanos;
+    private long teleportMaxNanos;
+    private long failedCount;
+    private long rejectedCount;
+    
+    /**
+     * Records a completed chunk prefetch.
+     * 
+     * @param nanos The time the prefetch took in nanoseconds
+     */
+    public void recordPrefetch(long nanos) {
+        prefetchCount++;
+        prefetchTotalNanos += nanos;
+        prefetchMaxNanos = Math.max(prefetchMaxNanos, nanos);
+    }
+    
+    /**
+     * Records a completed teleport.
+     * 
+     * @param nanos The time the teleport took in nanoseconds
+     * @param success Whether the teleport succeeded
+     */
+    public void recordTeleport(long nanos, boolean success) {
+        teleportCount++;
+        teleportTotalNanos += nanos;
+        teleportMaxNanos = Math.max(teleportMaxNanos, nanos);
+        if (!success) {
+            failedCount++;
+        }
+    }
+    
+    /**
+     * Records a teleport rejected because another one was still in flight.
+     */
+    public void recordRejected() {
+        rejectedCount++;
+    }
+    
+    public long getPrefetchCount() {
+        return prefetchCount;
+    }
+    
+    public double getAveragePrefetchMillis() {
+        return prefetchCount == 0 ? 0 : prefetchTotalNanos / (double) prefetchCount / 1_000_000D;
+    }
+    
+    public double getMaxPrefetchMillis() {
+        return prefetchMaxNanos / 1_000_000D;
+    }
+    
+    public long getTeleportCount() {
+        return teleportCount;
+    }
+    
+    public double getAverageTeleportMillis() {
+        return teleportCount == 0 ? 0 : teleportTotalNanos / (double) teleportCount / 1_000_000D;
+    }
+    
+    public double getMaxTeleportMillis() {
+        return teleportMaxNanos / 1_000_000D;
+    }
+    
+    public long getFailedCount() {
+        return failedCount;
+    }
+    
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+    
+    /**
+     * Resets all metrics.
+     */
+    public void reset() {
+        prefetchCount = 0;
+        prefetchTotalNanos = 0;
+        prefetchMaxNanos = 0;
+        teleportCount = 0;
+        teleportTotalNanos = 0;
+        teleportMaxNanos = 0;
+        failedCount = 0;
+        rejectedCount = 0;
+    }
+}
@@ -1,17 +1,35 @@
 package com.utility.plugin.services;
 
 import com.utility.plugin.UtilityPlugin;
-import org.bukkit.configuration.file.FileConfiguration;
+import com.utility.plugin.models.ConfigSnapshot;
+import com.utility.plugin.models.GodModePolicy;
+import com.utility.plugin.utils.ConfigValidator;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for handling plugin configuration.
+ * Settings are served from an immutable snapshot held in a single volatile field; a
+ * reload parses a fresh snapshot off the main thread and swaps it in with one write,
+ * so readers see either the old or the new configuration, never a mix of both.
  * 
  * @author UtilityPlugin Team
  */
 public class ConfigService {
     
     private final UtilityPlugin plugin;
-    private FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
     
     public ConfigService(UtilityPlugin plugin) {
         this.plugin = plugin;
@@ -21,11 +39,78 @@ public class ConfigService {
     public void loadConfig() {
         plugin.saveDefaultConfig();
         plugin.reloadConfig();
-        this.config = plugin.getConfig();
+        this.snapshot = ConfigSnapshot.of(plugin.getConfig());
+    }
+    
+    /**
+     * Parses config.yml into a new snapshot on an async thread and publishes it.
+     * The current snapshot stays in use until parsing has succeeded.
+     * 
+     * @return Future completed with the new snapshot, or exceptionally if the file is invalid
+     */
+    public CompletableFuture<ConfigSnapshot> reloadAsync() {
+        CompletableFuture<ConfigSnapshot> future = new CompletableFuture<>();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                future.complete(reload());
+            } catch (IOException | InvalidConfigurationException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Parses and validates config.yml on the calling thread and publishes the result.
+     * Must not be called on the main thread. The current snapshot stays in use if the
+     * file cannot be parsed or fails validation.
+     * 
+     * @return The new snapshot
+     * @throws IOException If the file cannot be read
+     * @throws InvalidConfigurationException If the file is not valid YAML or fails validation;
+     *         the message names the offending lines
+     */
+    public ConfigSnapshot reload() throws IOException, InvalidConfigurationException {
+        ConfigSnapshot loaded = ConfigSnapshot.of(readConfig());
+        snapshot = loaded;
+        return loaded;
+    }
+    
+    private YamlConfiguration readConfig() throws IOException, InvalidConfigurationException {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+        if (!file.exists()) {
+            plugin.saveDefaultConfig();
+        }
+        String source = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(source);
+        
+        List<String> problems = ConfigValidator.validate(config, source);
+        if (!problems.isEmpty()) {
+            throw new InvalidConfigurationException(String.join("; ", problems));
+        }
+        
+        InputStream defaults = plugin.getResource("config.yml");
+        if (defaults != null) {
+            try (Reader reader = new InputStreamReader(defaults, StandardCharsets.UTF_8)) {
+                config.setDefaults(YamlConfiguration.loadConfiguration(reader));
+            }
+        }
+        return config;
+    }
+    
+    /**
+     * Gets the configuration currently in use.
+     * 
+     * @return The current snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
     
     public String getMessage(String path) {
-        return config.getString("messages." + path, "Message not found: " + path);
+        String message = snapshot.getMessages().get(path);
+        return message != null ? message : "Message not found: " + path;
     }
     
     public String getMessage(String path, String... replacements) {
@@ -38,23 +123,112 @@ public class ConfigService {
         return message;
     }
     
+    /**
+     * Gets every configured message by its path below "messages".
+     * 
+     * @return Unmodifiable map of message paths to raw messages
+     */
+    public Map<String, String> getMessages() {
+        return snapshot.getMessages();
+    }
+    
     public String getPrefix() {
-        return config.getString("prefix", "&8[&bUtilityPlugin&8] &r");
+        return snapshot.getPrefix();
+    }
+    
+    public boolean isAutoReloadEnabled() {
+        return snapshot.isAutoReloadEnabled();
+    }
+    
+    public boolean isLocaleEnabled() {
+        return snapshot.isLocaleEnabled();
+    }
+    
+    public int getLocaleCacheSize() {
+        return snapshot.getLocaleCacheSize();
+    }
+    
+    public boolean isChatCoalesceEnabled() {
+        return snapshot.isChatCoalesceEnabled();
+    }
+    
+    public int getChatDedupeWindow() {
+        return snapshot.getChatDedupeWindow();
+    }
+    
+    public int getTraceBufferSize() {
+        return snapshot.getTraceBufferSize();
     }
     
     public int getTPATimeout() {
-        return config.getInt("tpa.timeout", 60);
+        return snapshot.getTPATimeout();
     }
     
     public int getTPACooldown() {
-        return config.getInt("tpa.cooldown", 30);
+        return snapshot.getTPACooldown();
+    }
+    
+    public int getTeleportPrefetchRadius() {
+        return snapshot.getTeleportPrefetchRadius();
+    }
+    
+    public long getMassTeleportTickBudget() {
+        return snapshot.getMassTeleportTickBudget();
+    }
+    
+    public int getMassTeleportProgressInterval() {
+        return snapshot.getMassTeleportProgressInterval();
+    }
+    
+    public boolean isTPAPersistenceEnabled() {
+        return snapshot.isTPAPersistenceEnabled();
+    }
+    
+    public int getTPAJournalFlushInterval() {
+        return snapshot.getTPAJournalFlushInterval();
+    }
+    
+    public int getTPAJournalCompactThreshold() {
+        return snapshot.getTPAJournalCompactThreshold();
+    }
+    
+    public boolean isClusterEnabled() {
+        return snapshot.isClusterEnabled();
+    }
+    
+    public String getClusterNodeId() {
+        return snapshot.getClusterNodeId();
+    }
+    
+    public String getClusterTransport() {
+        return snapshot.getClusterTransport();
     }
     
     public boolean isGodHungerEnabled() {
-        return config.getBoolean("god.hunger", true);
+        return snapshot.isGodHungerEnabled();
     }
     
     public boolean isGodFallDamageEnabled() {
-        return config.getBoolean("god.fall-damage", true);
+        return snapshot.isGodFallDamageEnabled();
+    }
+    
+    public Map<String, GodModePolicy> getGodPolicies() {
+        return snapshot.getGodPolicies();
+    }
+    
+    public long getFixTickBudget() {
+        return snapshot.getFixTickBudget();
+    }
+    
+    public int getAutoRepairThreshold() {
+        return snapshot.getAutoRepairThreshold();
+    }
+    
+    public int getOfflineInventoryCacheSize() {
+        return snapshot.getOfflineInventoryCacheSize();
+    }
+    
+    public int getOfflineInventoryCacheTtl() {
+        return snapshot.getOfflineInventoryCacheTtl();
     }
-} 
\ No newline at end of file
+}
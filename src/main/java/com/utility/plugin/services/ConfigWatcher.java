@@ -0,0 +1,127 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class reloading config.yml and the message bundles when they change on disk.
+ * A daemon thread watches the plugin folder; once the file has been quiet for a short
+ * while the configuration is parsed and validated off the main thread and only swapped
+ * in if it is valid, so editing messages on a live server never costs a tick.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class ConfigWatcher {
+    
+    // Editors often save in several writes; wait for the file to settle before reloading
+    private static final long DEBOUNCE_MILLIS = 500L;
+    private static final String FILE_NAME = "config.yml";
+    
+    private final UtilityPlugin plugin;
+    private final Path directory;
+    private WatchService watchService;
+    private Thread thread;
+    
+    public ConfigWatcher(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        this.directory = plugin.getDataFolder().toPath();
+    }
+    
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not watch " + FILE_NAME + " for changes: " + e.getMessage());
+            return;
+        }
+        
+        thread = new Thread(this::run, "UtilityPlugin-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    public void shutdown() {
+        if (watchService != null) {
+            try {
+                // Wakes the watcher thread with a ClosedWatchServiceException
+                watchService.close();
+            } catch (IOException ignored) {
+                // Closing only releases the native handle
+            }
+            watchService = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+    
+    private void run() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                if (!drain(service.take())) {
+                    continue;
+                }
+                
+                WatchKey key;
+                while ((key = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    drain(key);
+                }
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Plugin is shutting down
+        }
+    }
+    
+    /**
+     * Consumes the events of a key and re-arms it.
+     * 
+     * @param key The signalled key
+     * @return true if config.yml or a message bundle was among the changed files
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || isWatched(event.context().toString())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+    
+    private void notifyStaff(String messagePath, String... replacements) {
+        plugin.getServer().getScheduler().runTask(plugin, () -> plugin.getMessageService().notifyStaff(messagePath, replacements));
+    }
+    
+    private static boolean isWatched(String fileName) {
+        return fileName.equals(FILE_NAME) || (fileName.startsWith("messages_") && fileName.endsWith(".yml"));
+    }
+    
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            plugin.getConfigService().reload();
+            plugin.applyConfiguration();
+            long millis = (System.nanoTime() - start) / 1_000_000L;
+            plugin.getLogger().info(String.format("Reloaded %s in %d ms after it changed on disk", FILE_NAME, millis));
+            notifyStaff("config-reloaded-auto", "time", String.valueOf(millis));
+        } catch (Exception e) {
+            plugin.getLogger().warning(FILE_NAME + " changed on disk but was not reloaded, keeping the previous settings: "
+                    + e.getMessage());
+            notifyStaff("config-reload-auto-failed", "error", String.valueOf(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.listeners.GodModeListener;
+import com.utility.plugin.models.GodModePolicy;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for tracking which players have god mode enabled.
+ * Each god player is mapped to the policy they got when enabling god mode, so the
+ * check made on every damage event is one hash lookup on the player's UUID and one
+ * bit test, whether one or hundreds of players have god mode.
+ * The god mode listener is only registered while at least one player has god mode, so
+ * damage and hunger events cost nothing extra while nobody does.
+ * The flag itself is kept in the player's persistent data, so it survives relogs and
+ * restarts; the in-memory map only holds online players and is filled again on join.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class GodModeService {
+    
+    private final UtilityPlugin plugin;
+    private final NamespacedKey key;
+    private final Map<UUID, GodModePolicy> godModePlayers = new ConcurrentHashMap<>();
+    private final GodModeListener listener;
+    private boolean listening;
+    
+    public GodModeService(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        this.key = new NamespacedKey(plugin, "god_mode");
+        this.listener = new GodModeListener(plugin);
+    }
+    
+    public boolean isGodMode(Player player) {
+        return isGodMode(player.getUniqueId());
+    }
+    
+    public boolean isGodMode(UUID playerId) {
+        // Most servers have nobody in god mode; skip hashing the UUID then
+        return !godModePlayers.isEmpty() && godModePlayers.containsKey(playerId);
+    }
+    
+    /**
+     * Gets the god mode policy of a player.
+     * 
+     * @param player The player
+     * @return The policy, or null if the player does not have god mode
+     */
+    public GodModePolicy getPolicy(Player player) {
+        return godModePlayers.isEmpty() ? null : godModePlayers.get(player.getUniqueId());
+    }
+    
+    /**
+     * Enables god mode for a player.
+     * 
+     * @param player The player
+     * @return true if god mode was not enabled yet
+     */
+    public synchronized boolean enable(Player player) {
+        if (!load(player)) {
+            return false;
+        }
+        player.getPersistentDataContainer().set(key, PersistentDataType.BYTE, (byte) 1);
+        return true;
+    }
+    
+    /**
+     * Disables god mode for a player.
+     * 
+     * @param player The player
+     * @return true if god mode was enabled
+     */
+    public synchronized boolean disable(Player player) {
+        if (!unload(player)) {
+            return false;
+        }
+        player.getPersistentDataContainer().remove(key);
+        return true;
+    }
+    
+    /**
+     * Toggles god mode for a player.
+     * 
+     * @param player The player
+     * @return true if god mode is now enabled
+     */
+    public synchronized boolean toggle(Player player) {
+        if (disable(player)) {
+            return false;
+        }
+        enable(player);
+        return true;
+    }
+    
+    /**
+     * Restores god mode for a joining player whose persistent data has it enabled.
+     * The policy is resolved again, so permission changes made while offline apply.
+     * 
+     * @param player The player
+     * @return true if god mode was restored
+     */
+    public synchronized boolean restore(Player player) {
+        return player.getPersistentDataContainer().has(key, PersistentDataType.BYTE) && load(player);
+    }
+    
+    /**
+     * Restores god mode for every online player, for when the plugin is enabled while
+     * players are online.
+     */
+    public void restoreOnlinePlayers() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            restore(player);
+        }
+    }
+    
+    /**
+     * Drops a leaving player from memory, keeping their god mode in persistent data.
+     * 
+     * @param player The player
+     * @return true if the player had god mode
+     */
+    public synchronized boolean unload(Player player) {
+        if (godModePlayers.remove(player.getUniqueId()) == null) {
+            return false;
+        }
+        if (godModePlayers.isEmpty()) {
+            stopListening();
+        }
+        return true;
+    }
+    
+    /**
+     * Points every god player at the reloaded policy of the same name, or the default
+     * policy if theirs was removed. Called after the configuration is reloaded.
+     */
+    public void refreshPolicies() {
+        Map<String, GodModePolicy> policies = plugin.getConfigService().getGodPolicies();
+        godModePlayers.replaceAll((playerId, policy) ->
+                policies.getOrDefault(policy.getName(), policies.get(GodModePolicy.DEFAULT)));
+    }
+    
+    public synchronized void clear() {
+        godModePlayers.clear();
+        stopListening();
+    }
+    
+    /**
+     * Checks whether the god mode listener is currently registered.
+     * 
+     * @return true while at least one player has god mode
+     */
+    public synchronized boolean isListening() {
+        return listening;
+    }
+    
+    /**
+     * Picks the first policy the player was explicitly given, so operators are not
+     * narrowed to a policy just by having every permission.
+     */
+    private GodModePolicy resolvePolicy(Player player) {
+        Map<String, GodModePolicy> policies = plugin.getConfigService().getGodPolicies();
+        for (GodModePolicy policy : policies.values()) {
+            String permission = policy.getPermission();
+            if (!policy.getName().equals(GodModePolicy.DEFAULT)
+                    && player.isPermissionSet(permission) && player.hasPermission(permission)) {
+                return policy;
+            }
+        }
+        return policies.get(GodModePolicy.DEFAULT);
+    }
+    
+    private boolean load(Player player) {
+        if (godModePlayers.putIfAbsent(player.getUniqueId(), resolvePolicy(player)) != null) {
+            return false;
+        }
+        if (!listening) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            listening = true;
+        }
+        return true;
+    }
+    
+    private void stopListening() {
+        if (listening) {
+            // Safe while an event is being dispatched; the handler list is rebuilt afterwards
+            HandlerList.unregisterAll(listener);
+            listening = false;
+        }
+    }
+    
+    public int getGodModeCount() {
+        return godModePlayers.size();
+    }
+}
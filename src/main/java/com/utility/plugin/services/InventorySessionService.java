@@ -0,0 +1,189 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.InventorySession;
+import com.utility.plugin.listeners.InventorySessionListener;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service class for live inventory views of online players.
+ * Everyone viewing the same player shares one session, so staff members see each
+ * other's edits as they happen instead of overwriting them. Clicks on a view are applied
+ * to the player's inventory straight away rather than by the server, since the view can
+ * be up to a tick behind the player. While any session is open a task syncs the player's
+ * changes into every session once per tick, touching only the slots that changed, and
+ * the session listener is registered. A session is torn down once its last viewer closes
+ * it or the player leaves.
+ * Main thread only.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class InventorySessionService {
+    
+    private final UtilityPlugin plugin;
+    private final Map<UUID, InventorySession> sessions = new HashMap<>();
+    private final InventorySessionListener listener;
+    private BukkitTask syncTask;
+    
+    public InventorySessionService(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        this.listener = new InventorySessionListener(plugin);
+    }
+    
+    /**
+     * Opens the live view of a player's inventory, joining the session other viewers already have open.
+     * Players viewing themselves get their own inventory without a session.
+     * 
+     * @param viewer The player opening the view
+     * @param target The player whose inventory to view
+     */
+    public void open(Player viewer, Player target) {
+        // Shift clicks would move items between an inventory and itself, overwriting the merged stacks
+        if (viewer.getUniqueId().equals(target.getUniqueId())) {
+            viewer.openInventory(target.getInventory());
+            return;
+        }
+        
+        // Leave a session view first, so switching views cannot tear down the session being joined
+        if (viewer.getOpenInventory().getTopInventory().getHolder() instanceof InventorySession) {
+            viewer.closeInventory();
+        }
+        
+        InventorySession session = sessions.get(target.getUniqueId());
+        if (session == null) {
+            session = new InventorySession(target);
+            sessions.put(target.getUniqueId(), session);
+            start();
+        }
+        session.addViewer(viewer.getUniqueId());
+        viewer.openInventory(session.getInventory());
+    }
+    
+    /**
+     * Applies a viewer's click on a slot of a session view to the player's inventory.
+     * Plain clicks and shift clicks are supported; other clicks on the view do nothing.
+     * 
+     * @param session The clicked session
+     * @param viewer The player who clicked
+     * @param slot The clicked slot of the view
+     * @param click The type of click
+     */
+    public void handleClick(InventorySession session, HumanEntity viewer, int slot, ClickType click) {
+        Player target = plugin.getServer().getPlayer(session.getTargetId());
+        if (target == null) {
+            return;
+        }
+        if (click.isShiftClick()) {
+            session.moveOut(target, slot, viewer.getInventory());
+        } else if (click == ClickType.LEFT || click == ClickType.RIGHT) {
+            viewer.setItemOnCursor(session.click(target, slot, click == ClickType.RIGHT, viewer.getItemOnCursor()));
+        }
+    }
+    
+    /**
+     * Moves an item a viewer shift clicked in their own inventory into the player's inventory.
+     * 
+     * @param session The session the viewer has open
+     * @param item The shift clicked item
+     * @return What did not fit, to be left in the viewer's inventory; may be null
+     */
+    public ItemStack handleMoveIn(InventorySession session, ItemStack item) {
+        Player target = plugin.getServer().getPlayer(session.getTargetId());
+        return target != null ? session.moveIn(target, item) : item;
+    }
+    
+    /**
+     * Removes a viewer who closed a session view, tearing the session down if it was the last one.
+     * 
+     * @param session The closed session
+     * @param viewer The player who closed it
+     */
+    public void handleClose(InventorySession session, HumanEntity viewer) {
+        if (!session.removeViewer(viewer.getUniqueId()) || session.hasViewers()) {
+            return;
+        }
+        
+        sessions.remove(session.getTargetId(), session);
+        if (sessions.isEmpty()) {
+            stop();
+        }
+    }
+    
+    /**
+     * Ends the session of a player who is leaving and closes it for every viewer.
+     * 
+     * @param target The leaving player
+     */
+    public void endSession(Player target) {
+        InventorySession session = sessions.get(target.getUniqueId());
+        if (session == null) {
+            return;
+        }
+        
+        for (UUID viewerId : session.getViewers()) {
+            Player viewer = plugin.getServer().getPlayer(viewerId);
+            if (viewer != null) {
+                // The close event removes the viewer and tears the session down after the last one
+                viewer.closeInventory();
+            }
+        }
+        sessions.remove(target.getUniqueId(), session);
+        if (sessions.isEmpty()) {
+            stop();
+        }
+    }
+    
+    /**
+     * Gets the number of open sessions.
+     * 
+     * @return The number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+    
+    public void shutdown() {
+        for (InventorySession session : new ArrayList<>(sessions.values())) {
+            Player target = plugin.getServer().getPlayer(session.getTargetId());
+            if (target != null) {
+                endSession(target);
+            }
+        }
+        sessions.clear();
+        stop();
+    }
+    
+    private void tick() {
+        for (InventorySession session : sessions.values()) {
+            Player target = plugin.getServer().getPlayer(session.getTargetId());
+            if (target != null) {
+                session.sync(target);
+            }
+        }
+    }
+    
+    private void start() {
+        if (syncTask == null) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            syncTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+    
+    private void stop() {
+        if (syncTask != null) {
+            syncTask.cancel();
+            syncTask = null;
+            HandlerList.unregisterAll(listener);
+        }
+    }
+}
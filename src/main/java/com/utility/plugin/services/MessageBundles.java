@@ -0,0 +1,159 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.utils.MessageTemplate;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for per-locale message bundles.
+ * A bundle is a messages_&lt;locale&gt;.yml file in the plugin folder, for example
+ * messages_nl.yml or messages_pt_br.yml. Bundles are loaded and compiled on an async
+ * thread the first time a player with that locale needs one, and kept in a small LRU
+ * cache. Until a bundle is loaded its players get the default messages.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class MessageBundles {
+    
+    private static final String[] BUNDLED = {"messages_nl.yml", "messages_de.yml"};
+    private static final String FILE_PREFIX = "messages_";
+    private static final String FILE_SUFFIX = ".yml";
+    private static final String NO_BUNDLE = "";
+    private static final Map<String, MessageTemplate> LOADING = Collections.emptyMap();
+    
+    private final UtilityPlugin plugin;
+    private final Map<Locale, String> bundleNames = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, MessageTemplate>> cache;
+    private volatile Map<String, String> available = Collections.emptyMap();
+    private volatile int capacity;
+    private int generation;
+    
+    public MessageBundles(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        // Access order turns the map into an LRU; guarded by this
+        this.cache = new LinkedHashMap<String, Map<String, MessageTemplate>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, MessageTemplate>> eldest) {
+                return size() > capacity;
+            }
+        };
+        saveDefaultBundles();
+    }
+    
+    private void saveDefaultBundles() {
+        for (String name : BUNDLED) {
+            if (!new File(plugin.getDataFolder(), name).exists()) {
+                plugin.saveResource(name, false);
+            }
+        }
+    }
+    
+    /**
+     * Drops every loaded bundle and rescans the plugin folder for bundle files.
+     * Called whenever the configuration is (re)loaded.
+     */
+    public void reset() {
+        // Bundle names are matched case-insensitively, mapped to the actual file name
+        Map<String, String> found = new HashMap<>();
+        File[] files = plugin.getDataFolder().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName().toLowerCase(Locale.ROOT);
+                if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX)) {
+                    found.put(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()), file.getName());
+                }
+            }
+        }
+        
+        synchronized (this) {
+            generation++;
+            capacity = Math.max(1, plugin.getConfigService().getLocaleCacheSize());
+            available = found;
+            bundleNames.clear();
+            cache.clear();
+        }
+    }
+    
+    /**
+     * Gets the compiled bundle for a locale, starting an async load if it is not cached.
+     * 
+     * @param locale The player's locale
+     * @return The bundle, or null if there is no bundle for the locale or it is still loading
+     */
+    public Map<String, MessageTemplate> get(Locale locale) {
+        String name = bundleNames.computeIfAbsent(locale, this::resolve);
+        if (name.isEmpty()) {
+            return null;
+        }
+        
+        Map<String, MessageTemplate> bundle;
+        int loadGeneration;
+        synchronized (this) {
+            bundle = cache.get(name);
+            if (bundle != null) {
+                return bundle == LOADING ? null : bundle;
+            }
+            cache.put(name, LOADING);
+            loadGeneration = generation;
+        }
+        
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> load(name, loadGeneration));
+        return null;
+    }
+    
+    /**
+     * Gets the number of bundles currently held in memory.
+     * 
+     * @return The number of cached bundles
+     */
+    public synchronized int getCachedCount() {
+        return cache.size();
+    }
+    
+    /**
+     * Picks the most specific bundle for a locale: language and country first, then language.
+     */
+    private String resolve(Locale locale) {
+        String language = locale.getLanguage().toLowerCase(Locale.ROOT);
+        String country = locale.getCountry().toLowerCase(Locale.ROOT);
+        Map<String, String> names = available;
+        if (!country.isEmpty() && names.containsKey(language + "_" + country)) {
+            return language + "_" + country;
+        }
+        return names.containsKey(language) ? language : NO_BUNDLE;
+    }
+    
+    private void load(String name, int loadGeneration) {
+        String fileName = available.get(name);
+        YamlConfiguration bundle = fileName != null
+                ? YamlConfiguration.loadConfiguration(new File(plugin.getDataFolder(), fileName))
+                : new YamlConfiguration();
+        String prefix = bundle.getString("prefix", plugin.getConfigService().getPrefix());
+        
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        ConfigurationSection messages = bundle.getConfigurationSection("messages");
+        if (messages != null) {
+            for (String path : messages.getKeys(false)) {
+                if (messages.isString(path)) {
+                    compiled.put(path, MessageTemplate.compile(prefix, messages.getString(path)));
+                }
+            }
+        }
+        
+        synchronized (this) {
+            // Drop the result if the configuration was reloaded or the entry evicted meanwhile
+            if (loadGeneration == generation && cache.get(name) == LOADING) {
+                cache.put(name, compiled);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.utility.plugin.services;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Outbound chat queue collecting the messages of each player during a tick.
+ * At the end of the tick every player with queued messages gets them as a single
+ * newline-joined chat message, one packet instead of one per message. A message identical
+ * to one the player got within the dedupe window, with the same path and the same text, is
+ * dropped, so spamming a command does not flood the player's chat with the same reply.
+ * Messages whose values differ, such as requests from two players, are all delivered.
+ * Main thread only.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class MessageQueue {
+    
+    private final IntSupplier currentTick;
+    private final Map<UUID, Recipient> recipients = new HashMap<>();
+    private final List<Recipient> pending = new ArrayList<>();
+    private volatile int dedupeWindow;
+    private long queued;
+    private long suppressed;
+    private long batches;
+    
+    public MessageQueue(IntSupplier currentTick, int dedupeWindow) {
+        this.currentTick = currentTick;
+        this.dedupeWindow = dedupeWindow;
+    }
+    
+    /**
+     * Queues a message for the end of the tick.
+     * 
+     * @param player The recipient
+     * @param messagePath The message path
+     * @param message The rendered message
+     * @return false if the message was dropped as a repeat
+     */
+    public boolean enqueue(Player player, String messagePath, String message) {
+        int tick = currentTick.getAsInt();
+        Recipient recipient = recipients.computeIfAbsent(player.getUniqueId(), id -> new Recipient());
+        
+        if (dedupeWindow > 0) {
+            String key = messagePath + '\n' + message;
+            Integer lastSent = recipient.recent.get(key);
+            if (lastSent != null && tick - lastSent < dedupeWindow) {
+                suppressed++;
+                return false;
+            }
+            recipient.recent.put(key, tick);
+        }
+        
+        if (recipient.player == null) {
+            recipient.player = player;
+            pending.add(recipient);
+        }
+        recipient.batch.add(message);
+        recipient.lastActive = tick;
+        queued++;
+        return true;
+    }
+    
+    /**
+     * Sends every queued message and forgets recipients idle for longer than the window.
+     * Called at the end of each tick.
+     */
+    public void flush() {
+        for (Recipient recipient : pending) {
+            if (recipient.player.isOnline()) {
+                recipient.player.sendMessage(recipient.batch.size() == 1
+                        ? recipient.batch.get(0)
+                        : String.join("\n", recipient.batch));
+                batches++;
+            }
+            recipient.player = null;
+            recipient.batch.clear();
+        }
+        pending.clear();
+        
+        int tick = currentTick.getAsInt();
+        Iterator<Recipient> iterator = recipients.values().iterator();
+        while (iterator.hasNext()) {
+            Recipient recipient = iterator.next();
+            if (tick - recipient.lastActive >= dedupeWindow) {
+                iterator.remove();
+            } else {
+                recipient.recent.values().removeIf(sent -> tick - sent >= dedupeWindow);
+            }
+        }
+    }
+    
+    public void setDedupeWindow(int dedupeWindow) {
+        this.dedupeWindow = dedupeWindow;
+    }
+    
+    /**
+     * Gets the number of messages queued for sending.
+     * 
+     * @return The number of queued messages
+     */
+    public long getQueuedCount() {
+        return queued;
+    }
+    
+    /**
+     * Gets the number of messages dropped as repeats within the dedupe window.
+     * 
+     * @return The number of suppressed messages
+     */
+    public long getSuppressedCount() {
+        return suppressed;
+    }
+    
+    /**
+     * Gets the number of batched chat messages sent.
+     * 
+     * @return The number of batches
+     */
+    public long getBatchCount() {
+        return batches;
+    }
+    
+    /**
+     * Messages and recent history of a single player.
+     */
+    private static final class Recipient {
+        
+        private final List<String> batch = new ArrayList<>(4);
+        private final Map<String, Integer> recent = new HashMap<>();
+        private Player player;
+        private int lastActive;
+    }
+}
@@ -1,12 +1,29 @@
 package com.utility.plugin.services;
 
 import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.utils.ComponentTemplate;
+import com.utility.plugin.utils.MessageTemplate;
+import net.kyori.adventure.text.Component;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Service class for handling plugin messages and formatting.
+ * Messages are compiled into templates once at load and on every reload.
+ * Players get messages from the bundle of their client locale when there is one,
+ * falling back to the messages in config.yml for keys the bundle does not define.
+ * Messages to players sent on the main thread are queued and flushed once per tick.
+ * Broadcasts render an Adventure component once per language and send that same
+ * instance to every recipient.
  * 
  * @author UtilityPlugin Team
  */
@@ -14,10 +31,31 @@ public class MessageService {
     
     private final UtilityPlugin plugin;
     private final ConfigService configService;
+    private final MessageBundles bundles;
+    private final MessageQueue queue;
+    private volatile Map<String, MessageTemplate> templates = new HashMap<>();
     
     public MessageService(UtilityPlugin plugin) {
         this.plugin = plugin;
         this.configService = plugin.getConfigService();
+        this.bundles = new MessageBundles(plugin);
+        this.queue = new MessageQueue(plugin.getServer()::getCurrentTick, configService.getChatDedupeWindow());
+        compileTemplates();
+    }
+    
+    /**
+     * Compiles every configured message with the current prefix.
+     * Must be called again whenever the configuration is reloaded.
+     */
+    public void compileTemplates() {
+        String prefix = configService.getPrefix();
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (Map.Entry<String, String> message : configService.getMessages().entrySet()) {
+            compiled.put(message.getKey(), MessageTemplate.compile(prefix, message.getValue()));
+        }
+        templates = compiled;
+        bundles.reset();
+        queue.setDedupeWindow(configService.getChatDedupeWindow());
     }
     
     public void sendMessage(CommandSender sender, String messagePath) {
@@ -25,8 +63,104 @@ public class MessageService {
     }
     
     public void sendMessage(CommandSender sender, String messagePath, String... replacements) {
-        String message = configService.getMessage(messagePath, replacements);
-        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', configService.getPrefix() + message));
+        String message = getTemplate(sender, messagePath).render(replacements);
+        if (sender instanceof Player && configService.isChatCoalesceEnabled() && plugin.getServer().isPrimaryThread()) {
+            queue.enqueue((Player) sender, messagePath, message);
+        } else {
+            sender.sendMessage(message);
+        }
+    }
+    
+    /**
+     * Sends the same message to many recipients.
+     * The message is rendered into a component once for each language among the
+     * recipients, and that instance is shared by all of them. Broadcasts are sent
+     * immediately rather than through the per-tick queue.
+     * 
+     * @param recipients The recipients
+     * @param messagePath The message path
+     * @param replacements Alternating placeholder names and values
+     */
+    public void broadcast(Collection<? extends CommandSender> recipients, String messagePath, String... replacements) {
+        Map<MessageTemplate, Component> rendered = new IdentityHashMap<>(4);
+        for (CommandSender recipient : recipients) {
+            MessageTemplate template = getTemplate(recipient, messagePath);
+            Component component = rendered.get(template);
+            if (component == null) {
+                component = template.toComponent().render(replacements);
+                rendered.put(template, component);
+            }
+            recipient.sendMessage(component);
+        }
+    }
+    
+    /**
+     * Sends the same message to many recipients with one placeholder filled in per recipient.
+     * The shared placeholders are resolved once for each language; per recipient only the
+     * given placeholder is overlaid on the shared parts.
+     * 
+     * @param recipients The recipients
+     * @param messagePath The message path
+     * @param placeholder The name of the per-recipient placeholder
+     * @param value Gives the value of the placeholder for a recipient
+     * @param replacements Alternating names and values of the shared placeholders
+     */
+    public void broadcast(Collection<? extends CommandSender> recipients, String messagePath, String placeholder,
+                          Function<? super CommandSender, String> value, String... replacements) {
+        Map<MessageTemplate, ComponentTemplate> bound = new IdentityHashMap<>(4);
+        for (CommandSender recipient : recipients) {
+            ComponentTemplate overlay = bound.computeIfAbsent(getTemplate(recipient, messagePath),
+                    template -> template.toComponent().bind(replacements));
+            recipient.sendMessage(overlay.render(placeholder, value.apply(recipient)));
+        }
+    }
+    
+    /**
+     * Broadcasts a message to every online player with the utility.notify permission.
+     * Must be called on the main thread.
+     * 
+     * @param messagePath The message path
+     * @param replacements Alternating placeholder names and values
+     */
+    public void notifyStaff(String messagePath, String... replacements) {
+        List<Player> staff = new ArrayList<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (player.hasPermission("utility.notify")) {
+                staff.add(player);
+            }
+        }
+        broadcast(staff, messagePath, replacements);
+    }
+    
+    /**
+     * Sends the messages queued during this tick.
+     * Called at the end of every tick and when the plugin is disabled.
+     */
+    public void flush() {
+        queue.flush();
+    }
+    
+    public MessageQueue getQueue() {
+        return queue;
+    }
+    
+    private MessageTemplate getTemplate(CommandSender sender, String messagePath) {
+        if (sender instanceof Player && configService.isLocaleEnabled()) {
+            Map<String, MessageTemplate> bundle = bundles.get(((Player) sender).locale());
+            if (bundle != null) {
+                MessageTemplate template = bundle.get(messagePath);
+                if (template != null) {
+                    return template;
+                }
+            }
+        }
+        
+        MessageTemplate template = templates.get(messagePath);
+        if (template == null) {
+            // Unknown paths are rare; compile the "not found" fallback without caching it
+            template = MessageTemplate.compile(configService.getPrefix(), configService.getMessage(messagePath));
+        }
+        return template;
     }
     
     public void sendNoPermission(CommandSender sender) {
@@ -0,0 +1,419 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.OfflineInventoryGUI;
+import com.utility.plugin.models.OfflinePlayerData;
+import com.utility.plugin.utils.PlayerDataCodec;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service class for viewing and editing the inventory and ender chest of offline players.
+ * The player data file is decoded on an async thread with a streaming NBT reader that
+ * only keeps the item sections, and the view is opened on the main thread once it is
+ * ready. Decoded files are kept in a small cache that expires after a configured time,
+ * and viewers asking for the same player while it loads share one read.
+ * Staff viewing the same part of a player's data share one view, so an item can only be
+ * taken once. Edits are written back when the last viewer closes the view, when the player
+ * logs in, before the server loads their data, and when the plugin is disabled; the file is
+ * written to a temporary file and moved over the player data atomically, on the main thread
+ * like the server's own player data saves. Edits are never thrown away, since items may
+ * already have moved between the view and a viewer's inventory.
+ * Main thread only, apart from reading the file.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class OfflineInventoryService {
+    
+    private final UtilityPlugin plugin;
+    private final Map<UUID, OfflinePlayerData> cache;
+    private final Map<UUID, CompletableFuture<OfflinePlayerData>> loading = new HashMap<>();
+    private final Map<UUID, Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI>> views = new HashMap<>();
+    // Players past the login whose data may be loaded by now, but who have not joined yet
+    private final Set<UUID> joining = new HashSet<>();
+    
+    public OfflineInventoryService(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        // Access order turns the map into an LRU bounded by the configured size
+        this.cache = new LinkedHashMap<UUID, OfflinePlayerData>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, OfflinePlayerData> eldest) {
+                return size() > plugin.getConfigService().getOfflineInventoryCacheSize();
+            }
+        };
+    }
+    
+    /**
+     * Opens the inventory or ender chest of a player who is not online.
+     * Joins the view other staff already have open, and if the player logs in before
+     * their data is read, their live inventory is opened instead.
+     * 
+     * @param viewer The player opening the view
+     * @param name The name of the player to view
+     * @param kind The part of the player data to show
+     */
+    public void open(Player viewer, String name, OfflineInventoryGUI.Kind kind) {
+        OfflinePlayer target = plugin.getServer().getOfflinePlayerIfCached(name);
+        if (target == null || !target.hasPlayedBefore()) {
+            plugin.getMessageService().sendPlayerNotFound(viewer, name);
+            return;
+        }
+        String targetName = target.getName() != null ? target.getName() : name;
+        UUID targetId = target.getUniqueId();
+        
+        // An open view holds the current items, which may not have been written yet
+        OfflineInventoryGUI view = getView(targetId, kind);
+        OfflinePlayerData cached = view != null ? view.getData() : getCached(targetId);
+        if (cached != null) {
+            show(viewer, cached, kind);
+            return;
+        }
+        
+        plugin.getMessageService().sendMessage(viewer, "offline-inventory-loading", "player", targetName);
+        UUID viewerId = viewer.getUniqueId();
+        load(targetId, targetName).whenComplete((data, error) -> {
+            Player online = plugin.getServer().getPlayer(viewerId);
+            if (online == null) {
+                return;
+            }
+            if (error != null) {
+                plugin.getMessageService().sendMessage(online, "offline-inventory-failed",
+                        "player", targetName, "error", String.valueOf(error.getMessage()));
+                return;
+            }
+            show(online, data, kind);
+        });
+    }
+    
+    /**
+     * Writes the edits made in a view once its last viewer closed it.
+     * If the file cannot be written, the view is kept with its edits, so they are written
+     * again when it is next closed, when the player logs in or when the plugin is disabled.
+     * 
+     * @param gui The closed view
+     * @param viewer The player who closed it
+     */
+    public void handleClose(OfflineInventoryGUI gui, HumanEntity viewer) {
+        if (getView(gui.getData().getPlayerId(), gui.getKind()) != gui) {
+            return;
+        }
+        // The closing viewer is still listed while the close event runs
+        for (HumanEntity other : gui.getInventory().getViewers()) {
+            if (!other.getUniqueId().equals(viewer.getUniqueId())) {
+                return;
+            }
+        }
+        
+        OfflinePlayerData data = gui.getData();
+        try {
+            if (save(gui)) {
+                plugin.getMessageService().sendMessage(viewer, "offline-inventory-saved", "player", data.getName());
+            }
+            removeView(gui);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not save the player data of " + data.getName() + ": " + e.getMessage());
+            plugin.getMessageService().sendMessage(viewer, "offline-inventory-save-failed",
+                    "player", data.getName(), "error", e.getMessage());
+        }
+    }
+    
+    /**
+     * Writes the edits of every view of a player who is logging in, before the server
+     * loads their data, and closes those views.
+     * Views opened from now until the player joins are read-only.
+     * 
+     * @param player The player logging in
+     * @return false if edits could not be written; the player must not log in then,
+     *         as the server would load the items from before the edits
+     */
+    public boolean handleLogin(Player player) {
+        UUID playerId = player.getUniqueId();
+        cache.remove(playerId);
+        loading.remove(playerId);
+        Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI> playerViews = views.remove(playerId);
+        if (playerViews == null) {
+            joining.add(playerId);
+            return true;
+        }
+        
+        for (OfflineInventoryGUI gui : playerViews.values()) {
+            closeViewers(gui);
+        }
+        for (Iterator<OfflineInventoryGUI> it = playerViews.values().iterator(); it.hasNext(); ) {
+            OfflineInventoryGUI gui = it.next();
+            try {
+                save(gui);
+                it.remove();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not save the player data of " + gui.getData().getName()
+                        + " before they logged in: " + e.getMessage());
+                // Kept for the next login, or for staff to reopen
+                views.put(playerId, playerViews);
+                return false;
+            }
+        }
+        joining.add(playerId);
+        return true;
+    }
+    
+    /**
+     * Forgets the cached data of a player who joined or left. Views opened while the
+     * player was logging in are closed once they join.
+     * 
+     * @param player The player whose data is no longer current
+     * @param joined Whether the player joined
+     */
+    public void invalidate(Player player, boolean joined) {
+        UUID playerId = player.getUniqueId();
+        cache.remove(playerId);
+        loading.remove(playerId);
+        joining.remove(playerId);
+        if (!joined) {
+            return;
+        }
+        
+        // Only read-only views can be opened between the login and the join
+        Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI> playerViews = views.remove(playerId);
+        if (playerViews != null) {
+            for (OfflineInventoryGUI gui : playerViews.values()) {
+                closeViewers(gui);
+            }
+        }
+    }
+    
+    public void shutdown() {
+        List<OfflineInventoryGUI> open = new ArrayList<>();
+        for (Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI> playerViews : views.values()) {
+            open.addAll(playerViews.values());
+        }
+        views.clear();
+        for (OfflineInventoryGUI gui : open) {
+            closeViewers(gui);
+            try {
+                save(gui);
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not save the player data of " + gui.getData().getName() + ": " + e.getMessage());
+            }
+        }
+        cache.clear();
+        loading.clear();
+        joining.clear();
+    }
+    
+    private OfflinePlayerData getCached(UUID playerId) {
+        OfflinePlayerData data = cache.get(playerId);
+        long ttlMillis = plugin.getConfigService().getOfflineInventoryCacheTtl() * 1000L;
+        if (data != null && System.currentTimeMillis() - data.getLoadedAt() >= ttlMillis) {
+            cache.remove(playerId);
+            return null;
+        }
+        return data;
+    }
+    
+    /**
+     * Reads the data of an offline player, sharing a read already in progress.
+     * 
+     * @return Future completed on the main thread
+     */
+    private CompletableFuture<OfflinePlayerData> load(UUID playerId, String name) {
+        CompletableFuture<OfflinePlayerData> pending = loading.get(playerId);
+        if (pending != null) {
+            return pending;
+        }
+        
+        CompletableFuture<OfflinePlayerData> future = new CompletableFuture<>();
+        loading.put(playerId, future);
+        Path file = getPlayerDataFile(playerId);
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            OfflinePlayerData data;
+            try {
+                data = readPlayerData(playerId, name, file);
+            } catch (IOException | RuntimeException e) {
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    loading.remove(playerId, future);
+                    future.completeExceptionally(e);
+                });
+                return;
+            }
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                // Not cached if the player joined or left while the file was read
+                if (loading.remove(playerId, future)) {
+                    cache.put(playerId, data);
+                }
+                future.complete(data);
+            });
+        });
+        return future;
+    }
+    
+    private void show(Player viewer, OfflinePlayerData data, OfflineInventoryGUI.Kind kind) {
+        UUID targetId = data.getPlayerId();
+        Player online = plugin.getServer().getPlayer(targetId);
+        boolean inventory = kind == OfflineInventoryGUI.Kind.INVENTORY;
+        if (online != null && inventory) {
+            plugin.getInventorySessionService().open(viewer, online);
+        } else if (online != null) {
+            viewer.openInventory(online.getEnderChest());
+        } else {
+            OfflineInventoryGUI gui = getView(targetId, kind);
+            if (gui == null) {
+                // Items from another data version would be written back in a layout the server no longer reads,
+                // and edits made after the login would not reach the data the server loads
+                boolean editable = data.getDataVersion() == getServerDataVersion()
+                        && !joining.contains(targetId);
+                gui = new OfflineInventoryGUI(data, kind, editable);
+                views.computeIfAbsent(targetId, id -> new EnumMap<>(OfflineInventoryGUI.Kind.class)).put(kind, gui);
+            }
+            if (!gui.isEditable()) {
+                plugin.getMessageService().sendMessage(viewer,
+                        joining.contains(targetId) ? "offline-inventory-logging-in" : "offline-inventory-read-only",
+                        "player", data.getName());
+            }
+            viewer.openInventory(gui.getInventory());
+        }
+        plugin.getMessageService().sendMessage(viewer, inventory ? "inventory-opened" : "enderchest-opened",
+                "player", data.getName());
+    }
+    
+    @SuppressWarnings("deprecation")
+    private int getServerDataVersion() {
+        return plugin.getServer().getUnsafe().getDataVersion();
+    }
+    
+    private OfflineInventoryGUI getView(UUID playerId, OfflineInventoryGUI.Kind kind) {
+        Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI> playerViews = views.get(playerId);
+        return playerViews != null ? playerViews.get(kind) : null;
+    }
+    
+    private void removeView(OfflineInventoryGUI gui) {
+        UUID playerId = gui.getData().getPlayerId();
+        Map<OfflineInventoryGUI.Kind, OfflineInventoryGUI> playerViews = views.get(playerId);
+        if (playerViews != null && playerViews.remove(gui.getKind(), gui) && playerViews.isEmpty()) {
+            views.remove(playerId);
+        }
+    }
+    
+    private static void closeViewers(OfflineInventoryGUI gui) {
+        // Closing fires the close event, which ignores views that are no longer registered
+        for (HumanEntity viewer : new ArrayList<>(gui.getInventory().getViewers())) {
+            viewer.closeInventory();
+        }
+    }
+    
+    /**
+     * Writes the items of a view into the player data file, replacing only the part the
+     * view shows, so the other part keeps edits saved from its own view.
+     * 
+     * @return true if there were edits to write
+     */
+    private boolean save(OfflineInventoryGUI gui) throws IOException {
+        if (!gui.isEditable()) {
+            return false;
+        }
+        ItemStack[] contents = gui.readContents();
+        if (!gui.isChanged(contents)) {
+            return false;
+        }
+        
+        byte[][] items = new byte[contents.length][];
+        for (int i = 0; i < contents.length; i++) {
+            items[i] = contents[i] != null ? contents[i].serializeAsBytes() : null;
+        }
+        OfflinePlayerData data = gui.getData();
+        boolean inventory = gui.getKind() == OfflineInventoryGUI.Kind.INVENTORY;
+        Path file = getPlayerDataFile(data.getPlayerId());
+        Path temp = Files.createTempFile(file.getParent(), data.getPlayerId() + "-", ".dat");
+        try {
+            writePlayerData(file, temp, data.getDataVersion(), inventory ? items : null, inventory ? null : items);
+            moveAtomically(temp, file);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        cache.remove(data.getPlayerId());
+        return true;
+    }
+    
+    private Path getPlayerDataFile(UUID playerId) {
+        // Player data lives in the folder of the main world
+        return plugin.getServer().getWorlds().get(0).getWorldFolder().toPath()
+                .resolve("playerdata").resolve(playerId + ".dat");
+    }
+    
+    private static OfflinePlayerData readPlayerData(UUID playerId, String name, Path file) throws IOException {
+        PlayerDataCodec.Contents contents;
+        try (InputStream in = openPlayerData(file)) {
+            contents = PlayerDataCodec.read(in);
+        }
+        return new OfflinePlayerData(playerId, name, contents.getDataVersion(),
+                deserialize(contents.getInventory()), deserialize(contents.getEnderChest()),
+                System.currentTimeMillis());
+    }
+    
+    private static void writePlayerData(Path file, Path temp, int dataVersion, byte[][] inventory, byte[][] enderChest)
+            throws IOException {
+        try (InputStream in = openPlayerData(file);
+             OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            PlayerDataCodec.write(in, out, dataVersion, inventory, enderChest);
+        }
+    }
+    
+    private static InputStream openPlayerData(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))));
+    }
+    
+    private static ItemStack[] deserialize(byte[][] items) {
+        ItemStack[] stacks = new ItemStack[items.length];
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != null) {
+                stacks[i] = ItemStack.deserializeBytes(items[i]);
+            }
+        }
+        return stacks;
+    }
+    
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Left behind as a stray temporary file
+        }
+    }
+}
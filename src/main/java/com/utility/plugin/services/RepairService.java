@@ -0,0 +1,245 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.listeners.AutoRepairListener;
+import com.utility.plugin.utils.TickBudgetedTask;
+import com.utility.plugin.utils.TraceEvent;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service class for repairing items.
+ * A player's storage, armour and off-hand slots are scanned in a single pass over one
+ * contents array. Whether a material can take damage comes from a table built once at
+ * startup, and only items that carry damage have their meta copied and rewritten, so
+ * items at full durability cause no meta rewrite and no slot update.
+ * Repairing many players is spread over several ticks within the configured budget.
+ * Players with auto-repair have item damage cancelled as it happens, which is a single
+ * map lookup per damage event; once the absorbed damage crosses the configured threshold
+ * one full repair is scheduled, catching damage that did not go through the event.
+ * Main thread only.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class RepairService {
+    
+    // Whether a Material, by ordinal, has durability and can take damage
+    private static final boolean[] DAMAGEABLE = buildDamageableTable();
+    
+    private final UtilityPlugin plugin;
+    private final Set<TickBudgetedTask<UUID>> batches = new HashSet<>();
+    private final Map<UUID, AutoRepair> autoRepair = new HashMap<>();
+    private final AutoRepairListener listener;
+    private boolean listening;
+    
+    public RepairService(UtilityPlugin plugin) {
+        this.plugin = plugin;
+        this.listener = new AutoRepairListener(plugin);
+    }
+    
+    /**
+     * Repairs every item of a player: storage, armour and off-hand.
+     * 
+     * @param player The player whose items to repair
+     * @return The number of items that were damaged and got repaired
+     */
+    public int repair(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        // Includes the armour and off-hand slots, indexed by slot number
+        ItemStack[] contents = inventory.getContents();
+        int repaired = 0;
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (repairItem(item)) {
+                inventory.setItem(slot, item);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+    
+    /**
+     * Repairs the items of many players, spread over as many ticks as the configured
+     * per-tick budget requires. Players that left before their turn are skipped.
+     * The issuer gets a report with the number of items and the time spent once done.
+     * 
+     * @param issuer The staff member who started the repair
+     * @param players The players whose items to repair
+     */
+    public void repairAll(CommandSender issuer, Collection<? extends Player> players) {
+        List<UUID> order = new ArrayList<>(players.size());
+        for (Player player : players) {
+            order.add(player.getUniqueId());
+        }
+        
+        MassRepair progress = new MassRepair();
+        TickBudgetedTask<UUID> batch = new TickBudgetedTask<>(order, playerId -> {
+            Player player = plugin.getServer().getPlayer(playerId);
+            if (player != null) {
+                progress.items += repair(player);
+                progress.players++;
+            }
+        }, plugin.getConfigService().getFixTickBudget());
+        
+        batch.onComplete(() -> {
+            batches.remove(batch);
+            plugin.getMessageService().sendMessage(issuer, "fix-all-complete",
+                    "items", String.valueOf(progress.items),
+                    "players", String.valueOf(progress.players),
+                    "time", String.valueOf((System.nanoTime() - progress.startNanos) / 1_000_000L),
+                    "ticks", String.valueOf(batch.getTicks()));
+        });
+        batches.add(batch);
+        batch.start(plugin);
+    }
+    
+    /**
+     * Toggles auto-repair for a player. Enabling it also repairs the player's items.
+     * 
+     * @param player The player
+     * @return true if auto-repair is now enabled
+     */
+    public boolean toggleAutoRepair(Player player) {
+        if (disableAutoRepair(player)) {
+            return false;
+        }
+        autoRepair.put(player.getUniqueId(), new AutoRepair());
+        if (!listening) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            listening = true;
+        }
+        repair(player);
+        return true;
+    }
+    
+    /**
+     * Disables auto-repair for a player.
+     * 
+     * @param player The player
+     * @return true if auto-repair was enabled
+     */
+    public boolean disableAutoRepair(Player player) {
+        if (autoRepair.remove(player.getUniqueId()) == null) {
+            return false;
+        }
+        if (autoRepair.isEmpty()) {
+            stopListening();
+        }
+        return true;
+    }
+    
+    public boolean isAutoRepair(Player player) {
+        return !autoRepair.isEmpty() && autoRepair.containsKey(player.getUniqueId());
+    }
+    
+    /**
+     * Absorbs item damage of a player with auto-repair, scheduling one full repair
+     * once the damage absorbed since the last repair reaches the threshold.
+     * 
+     * @param player The player whose item is being damaged
+     * @param damage The damage the item would take
+     * @return true if the player has auto-repair and the damage should be cancelled
+     */
+    public boolean absorbDamage(Player player, int damage) {
+        AutoRepair state = autoRepair.isEmpty() ? null : autoRepair.get(player.getUniqueId());
+        if (state == null) {
+            return false;
+        }
+        
+        state.absorbed += damage;
+        if (!state.repairScheduled && state.absorbed >= plugin.getConfigService().getAutoRepairThreshold()) {
+            // Until the repair has run, further damage only adds to the count
+            state.repairScheduled = true;
+            UUID playerId = player.getUniqueId();
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                state.absorbed = 0;
+                state.repairScheduled = false;
+                Player online = plugin.getServer().getPlayer(playerId);
+                if (online != null && autoRepair.get(playerId) == state) {
+                    plugin.getTraceBuffer().record(TraceEvent.AUTO_REPAIR, playerId, repair(online));
+                }
+            });
+        }
+        return true;
+    }
+    
+    public void shutdown() {
+        for (TickBudgetedTask<UUID> batch : batches) {
+            batch.cancel();
+        }
+        batches.clear();
+        autoRepair.clear();
+        stopListening();
+    }
+    
+    private void stopListening() {
+        if (listening) {
+            HandlerList.unregisterAll(listener);
+            listening = false;
+        }
+    }
+    
+    /**
+     * Clears the damage of an item.
+     * 
+     * @param item The item, may be null
+     * @return true if the item was damaged and got repaired
+     */
+    static boolean repairItem(ItemStack item) {
+        // Damage is stored in the item's meta, so an item without meta is at full durability
+        if (item == null || !DAMAGEABLE[item.getType().ordinal()] || !item.hasItemMeta()) {
+            return false;
+        }
+        ItemMeta meta = item.getItemMeta();
+        if (!(meta instanceof Damageable) || !((Damageable) meta).hasDamage()) {
+            return false;
+        }
+        ((Damageable) meta).setDamage(0);
+        item.setItemMeta(meta);
+        return true;
+    }
+    
+    @SuppressWarnings("deprecation")
+    private static boolean[] buildDamageableTable() {
+        Material[] materials = Material.values();
+        boolean[] table = new boolean[materials.length];
+        for (Material material : materials) {
+            if (!material.isLegacy()) {
+                table[material.ordinal()] = material.getMaxDurability() > 0;
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * Damage absorbed for a player with auto-repair since their last full repair.
+     */
+    private static final class AutoRepair {
+        private int absorbed;
+        private boolean repairScheduled;
+    }
+    
+    /**
+     * Running totals of a mass repair.
+     */
+    private static final class MassRepair {
+        private final long startNanos = System.nanoTime();
+        private int players;
+        private int items;
+    }
+}
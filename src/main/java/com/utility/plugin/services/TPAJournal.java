@@ -0,0 +1,354 @@
+package com.utility.plugin.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only, memory-mapped journal of TPA requests and cooldowns.
+ * The main thread only encodes fixed-size records into an in-memory batch;
+ * {@link #flush()} copies the batch into the mapped file and is meant to run on an
+ * async scheduler thread, where it also compacts the file once enough records
+ * have accumulated.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class TPAJournal {
+    
+    private static final int MAGIC = 0x54504A31; // "TPJ1"
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 41;
+    private static final long INITIAL_SIZE = 1L << 20;
+    
+    private static final byte TYPE_COOLDOWN = 1;
+    private static final byte TYPE_REQUEST = 2;
+    private static final byte TYPE_REQUEST_REMOVED = 3;
+    
+    private final Path path;
+    private final int compactThreshold;
+    private final Object batchLock = new Object();
+    private final Object fileLock = new Object();
+    private ByteBuffer batch = ByteBuffer.allocate(RECORD_SIZE * 256);
+    private ByteBuffer spare = ByteBuffer.allocate(RECORD_SIZE * 256);
+    
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int writePosition;
+    private int recordsSinceCompaction;
+    private int nextCompaction;
+    
+    /**
+     * Receives the records of the journal during replay, oldest first.
+     */
+    public interface Visitor {
+        
+        void onCooldown(long playerMost, long playerLeast, long expiresAt);
+        
+        void onRequest(UUID fromId, UUID toId, long expiresAt);
+        
+        void onRequestRemoved(UUID fromId);
+    }
+    
+    /**
+     * Constructs a new TPAJournal instance.
+     * 
+     * @param file The journal file
+     * @param compactThreshold The number of appended records after which the file is compacted
+     */
+    public TPAJournal(File file, int compactThreshold) {
+        this.path = file.toPath();
+        this.compactThreshold = Math.max(1024, compactThreshold);
+        this.nextCompaction = this.compactThreshold;
+    }
+    
+    /**
+     * Opens the journal file, creating it if needed, and replays every record.
+     * 
+     * @param visitor Receiver of the replayed records
+     * @return The number of replayed records
+     * @throws IOException If the file cannot be opened or is not a journal
+     */
+    public int open(Visitor visitor) throws IOException {
+        synchronized (fileLock) {
+            Files.createDirectories(path.getParent());
+            map(path, Math.max(INITIAL_SIZE, Files.exists(path) ? Files.size(path) : 0));
+            
+            if (mapped.getInt(0) == 0) {
+                mapped.putInt(0, MAGIC);
+                mapped.putInt(4, RECORD_SIZE);
+            } else if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != RECORD_SIZE) {
+                throw new IOException("Not a TPA journal: " + path);
+            }
+            
+            int records = replay(mapped, visitor);
+            writePosition = HEADER_SIZE + records * RECORD_SIZE;
+            recordsSinceCompaction = records;
+            return records;
+        }
+    }
+    
+    public void appendCooldown(UUID playerId, long expiresAt) {
+        append(TYPE_COOLDOWN, playerId, null, expiresAt);
+    }
+    
+    public void appendRequest(UUID fromId, UUID toId, long expiresAt) {
+        append(TYPE_REQUEST, fromId, toId, expiresAt);
+    }
+    
+    public void appendRequestRemoved(UUID fromId) {
+        append(TYPE_REQUEST_REMOVED, fromId, null, 0L);
+    }
+    
+    /**
+     * Writes the pending batch into the mapped file and compacts it when due.
+     * Must not run on the main thread.
+     * 
+     * @throws IOException If the journal cannot be written
+     */
+    public void flush() throws IOException {
+        ByteBuffer pending;
+        synchronized (batchLock) {
+            if (batch.position() == 0 && recordsSinceCompaction < nextCompaction) {
+                return;
+            }
+            pending = batch;
+            batch = spare;
+            spare = pending;
+        }
+        
+        synchronized (fileLock) {
+            if (mapped == null) {
+                pending.clear();
+                return;
+            }
+            
+            pending.flip();
+            int records = pending.remaining() / RECORD_SIZE;
+            ensureCapacity(writePosition + pending.remaining());
+            for (int i = 0; i < records; i++) {
+                writeRecord(pending, writePosition);
+                writePosition += RECORD_SIZE;
+            }
+            pending.clear();
+            recordsSinceCompaction += records;
+            
+            if (recordsSinceCompaction >= nextCompaction) {
+                compact(System.currentTimeMillis());
+            }
+        }
+    }
+    
+    /**
+     * Rewrites the journal so it only holds live state, replacing the file atomically.
+     * 
+     * @param now The current time in milliseconds; expired entries are dropped
+     * @throws IOException If the compacted journal cannot be written or cannot replace the file;
+     *         the uncompacted journal stays in use then
+     */
+    public void compact(long now) throws IOException {
+        synchronized (fileLock) {
+            Map<UUID, long[]> cooldowns = new HashMap<>();
+            Map<UUID, long[]> requests = new HashMap<>();
+            ByteBuffer view = mapped.duplicate();
+            view.limit(writePosition);
+            replay(view, new Visitor() {
+                @Override
+                public void onCooldown(long playerMost, long playerLeast, long expiresAt) {
+                    if (expiresAt > now) {
+                        cooldowns.put(new UUID(playerMost, playerLeast), new long[] {expiresAt});
+                    }
+                }
+                
+                @Override
+                public void onRequest(UUID fromId, UUID toId, long expiresAt) {
+                    requests.put(fromId, new long[] {toId.getMostSignificantBits(), toId.getLeastSignificantBits(), expiresAt});
+                }
+                
+                @Override
+                public void onRequestRemoved(UUID fromId) {
+                    requests.remove(fromId);
+                }
+            });
+            
+            ByteBuffer live = ByteBuffer.allocate(HEADER_SIZE + (cooldowns.size() + requests.size()) * RECORD_SIZE);
+            live.putInt(MAGIC).putInt(RECORD_SIZE);
+            for (Map.Entry<UUID, long[]> entry : cooldowns.entrySet()) {
+                encode(live, TYPE_COOLDOWN, entry.getKey(), null, entry.getValue()[0]);
+            }
+            for (Map.Entry<UUID, long[]> entry : requests.entrySet()) {
+                long[] request = entry.getValue();
+                if (request[2] > now) {
+                    encode(live, TYPE_REQUEST, entry.getKey(), new UUID(request[0], request[1]), request[2]);
+                }
+            }
+            live.flip();
+            
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (live.hasRemaining()) {
+                    out.write(live);
+                }
+                out.force(true);
+            }
+            
+            int liveRecords = (live.limit() - HEADER_SIZE) / RECORD_SIZE;
+            close();
+            try {
+                replace(temp, path);
+            } catch (IOException e) {
+                // The file could not be replaced, e.g. while another process holds it open on Windows;
+                // the uncompacted journal stays in use, as rewriting it in place would not be atomic
+                map(path, Math.max(INITIAL_SIZE, Files.size(path)));
+                Files.deleteIfExists(temp);
+                nextCompaction = recordsSinceCompaction + compactThreshold;
+                throw new IOException("Could not compact " + path + ", keeping the uncompacted journal: " + e.getMessage(), e);
+            }
+            map(path, Math.max(INITIAL_SIZE, Files.size(path)));
+            writePosition = HEADER_SIZE + liveRecords * RECORD_SIZE;
+            recordsSinceCompaction = liveRecords;
+            nextCompaction = liveRecords + compactThreshold;
+        }
+    }
+    
+    /**
+     * Flushes the pending batch and closes the file.
+     * 
+     * @throws IOException If the journal cannot be written
+     */
+    public void shutdown() throws IOException {
+        flush();
+        synchronized (fileLock) {
+            close();
+        }
+    }
+    
+    private void append(byte type, UUID a, UUID b, long time) {
+        synchronized (batchLock) {
+            if (batch.remaining() < RECORD_SIZE) {
+                ByteBuffer grown = ByteBuffer.allocate(batch.capacity() * 2);
+                batch.flip();
+                grown.put(batch);
+                batch = grown;
+            }
+            encode(batch, type, a, b, time);
+        }
+    }
+    
+    private static void encode(ByteBuffer buffer, byte type, UUID a, UUID b, long time) {
+        buffer.put(type);
+        buffer.putLong(a.getMostSignificantBits());
+        buffer.putLong(a.getLeastSignificantBits());
+        buffer.putLong(b == null ? 0L : b.getMostSignificantBits());
+        buffer.putLong(b == null ? 0L : b.getLeastSignificantBits());
+        buffer.putLong(time);
+    }
+    
+    private void writeRecord(ByteBuffer source, int position) {
+        // The type byte is written last so a torn write never reads back as a record
+        byte type = source.get();
+        for (int offset = 1; offset < RECORD_SIZE; offset += 8) {
+            mapped.putLong(position + offset, source.getLong());
+        }
+        mapped.put(position, type);
+    }
+    
+    private static int replay(ByteBuffer buffer, Visitor visitor) {
+        int records = 0;
+        int limit = buffer.limit();
+        for (int position = HEADER_SIZE; position + RECORD_SIZE <= limit; position += RECORD_SIZE) {
+            byte type = buffer.get(position);
+            if (type == 0) {
+                break;
+            }
+            
+            long most = buffer.getLong(position + 1);
+            long least = buffer.getLong(position + 9);
+            long time = buffer.getLong(position + 33);
+            switch (type) {
+                case TYPE_COOLDOWN:
+                    // Cooldowns are the bulk of the journal; pass them on without allocating
+                    visitor.onCooldown(most, least, time);
+                    break;
+                case TYPE_REQUEST:
+                    visitor.onRequest(new UUID(most, least), new UUID(buffer.getLong(position + 17), buffer.getLong(position + 25)), time);
+                    break;
+                case TYPE_REQUEST_REMOVED:
+                    visitor.onRequestRemoved(new UUID(most, least));
+                    break;
+                default:
+                    return records;
+            }
+            records++;
+        }
+        return records;
+    }
+    
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private void ensureCapacity(long required) throws IOException {
+        if (required <= mapped.capacity()) {
+            return;
+        }
+        long size = mapped.capacity();
+        while (size < required) {
+            size *= 2;
+        }
+        MappedByteBuffer old = mapped;
+        old.force();
+        map(path, size);
+        unmap(old);
+    }
+    
+    private void map(Path file, long size) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+    
+    private void close() throws IOException {
+        if (mapped != null) {
+            mapped.force();
+            unmap(mapped);
+            mapped = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+    
+    /**
+     * Releases a mapping right away instead of when the buffer is garbage collected.
+     * Windows refuses to replace or delete a file while any part of it is mapped.
+     * The buffer must not be used afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(field.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Left to the garbage collector; until then compaction may keep the uncompacted journal
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.utility.plugin.services;
 
 import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.cluster.ClusterMessage;
+import com.utility.plugin.cluster.ClusterMessenger;
+import com.utility.plugin.cluster.ClusterTransport;
+import com.utility.plugin.cluster.LoopbackTransport;
+import com.utility.plugin.cluster.PluginMessagingTransport;
 import com.utility.plugin.models.TPARequest;
+import com.utility.plugin.models.TPARequestStore;
+import com.utility.plugin.utils.CooldownTable;
+import com.utility.plugin.utils.TimingWheel;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 
 /**
  * Service class for handling TPA (Teleport Request) functionality.
@@ -16,12 +30,49 @@ import java.util.UUID;
  */
 public class TPAService {
     
+    private static final int EXPIRY_WHEEL_SLOTS = 1024;
+    private static final long COOLDOWN_BUCKET_MILLIS = 1000L;
+    private static final int COOLDOWN_BUCKETS = 64;
+    private static final String JOURNAL_FILE = "tpa-journal.bin";
+    private static final int ARRIVAL_WHEEL_SLOTS = 256;
+    private static final long ARRIVAL_TIMEOUT_TICKS = 600L;
+    private static final long LOOKUP_TIMEOUT_TICKS = 100L;
+    
     private final UtilityPlugin plugin;
-    private final Map<UUID, TPARequest> pendingRequests = new HashMap<>();
-    private final Map<UUID, Long> cooldowns = new HashMap<>();
+    private final LongSupplier clock;
+    private final TPARequestStore pendingRequests = new TPARequestStore();
+    private final TimingWheel<TPARequest> expirations = new TimingWheel<>(EXPIRY_WHEEL_SLOTS, this::expireRequest);
+    private final CooldownTable cooldowns = new CooldownTable(COOLDOWN_BUCKET_MILLIS, COOLDOWN_BUCKETS);
+    private BukkitTask expiryTask;
+    private TPAJournal journal;
+    private BukkitTask journalTask;
+    private ClusterMessenger cluster;
+    private final Map<UUID, TPARequest> arrivals = new HashMap<>();
+    private final TimingWheel<TPARequest> arrivalExpirations = new TimingWheel<>(ARRIVAL_WHEEL_SLOTS,
+            request -> arrivals.remove(request.getFromId(), request));
+    private final Map<UUID, TimingWheel.Timeout<RemoteLookup>> lookups = new HashMap<>();
+    private final TimingWheel<RemoteLookup> lookupExpirations = new TimingWheel<>(ARRIVAL_WHEEL_SLOTS, this::expireLookup);
     
     public TPAService(UtilityPlugin plugin) {
+        this(plugin, System::currentTimeMillis);
+    }
+    
+    /**
+     * Constructs a TPAService reading wall-clock time from the given clock, so
+     * simulations can drive cooldowns together with the scheduler ticks.
+     */
+    TPAService(UtilityPlugin plugin, LongSupplier clock) {
         this.plugin = plugin;
+        this.clock = clock;
+        
+        // Restore requests and cooldowns from before the last restart
+        openJournal();
+        
+        // Route requests to players on other servers of the network
+        openCluster();
+        
+        // A single repeating task drives every request expiry and cooldown eviction
+        this.expiryTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
     }
     
     public boolean sendTPARequest(Player from, Player to) {
@@ -29,118 +80,535 @@ public class TPAService {
         UUID toId = to.getUniqueId();
         
         // Check cooldown
-        if (isOnCooldown(fromId)) {
-            long remaining = getCooldownRemaining(fromId);
+        long remaining = getCooldownRemaining(fromId);
+        if (remaining > 0) {
             plugin.getMessageService().sendMessage(from, "tpa-cooldown", "cooldown", String.valueOf(remaining));
             return false;
         }
         
-        // Remove any existing request from this player
-        pendingRequests.remove(fromId);
-        
-        // Create new request
-        TPARequest request = new TPARequest(from, to, System.currentTimeMillis());
-        pendingRequests.put(fromId, request);
+        // Create new request, replacing (and cancelling the timeout of) any existing request from this player
+        int timeoutSeconds = plugin.getConfigService().getTPATimeout();
+        TPARequest request = new TPARequest(fromId, toId, plugin.getServer().getCurrentTick());
+        TimingWheel.Timeout<TPARequest> timeout = expirations.schedule(request, timeoutSeconds * 20L);
+        pendingRequests.put(request, timeout);
+        if (journal != null) {
+            journal.appendRequest(fromId, toId, clock.getAsLong() + timeoutSeconds * 1000L);
+        }
         
         // Set cooldown
         setCooldown(fromId);
         
-        // Schedule timeout
-        scheduleTimeout(fromId);
+        return true;
+    }
+    
+    /**
+     * Sends a TPA request to a player on another server of the network.
+     * The request is broadcast and picked up by the node the target is on, which confirms
+     * it; the sender is told the request was sent, or that the player was not found if
+     * no node confirms it in time. The cooldown starts once the request is confirmed.
+     * 
+     * @param from The sender
+     * @param targetName The name of the target
+     * @return true if the request was queued
+     */
+    public boolean sendRemoteTPARequest(Player from, String targetName) {
+        UUID fromId = from.getUniqueId();
+        long remaining = getCooldownRemaining(fromId);
+        if (remaining > 0) {
+            plugin.getMessageService().sendMessage(from, "tpa-cooldown", "cooldown", String.valueOf(remaining));
+            return false;
+        }
         
+        // A new request replaces the sender's local one, as it would locally
+        removeRequest(fromId);
+        TimingWheel.Timeout<RemoteLookup> previous = lookups.put(fromId,
+                lookupExpirations.schedule(new RemoteLookup(fromId, targetName), LOOKUP_TIMEOUT_TICKS));
+        if (previous != null) {
+            previous.cancel();
+        }
+        cluster.send(ClusterTransport.ALL, ClusterMessage.request(fromId, from.getName(), targetName));
         return true;
     }
     
+    public boolean isClusterEnabled() {
+        return cluster != null;
+    }
+    
     public boolean acceptTPARequest(Player player) {
-        TPARequest request = getRequestToPlayer(player);
+        TPARequest request = pendingRequests.getLatestTo(player.getUniqueId());
         if (request == null) {
             plugin.getMessageService().sendMessage(player, "tpa-no-request");
             return false;
         }
         
-        Player from = request.getFrom();
-        if (!from.isOnline()) {
+        return acceptTPARequest(player, request);
+    }
+    
+    public boolean acceptTPARequest(Player player, String senderName) {
+        TPARequest request = getRequestFrom(player, senderName);
+        if (request == null) {
+            plugin.getMessageService().sendMessage(player, "tpa-no-request-from", "player", senderName);
+            return false;
+        }
+        
+        return acceptTPARequest(player, request);
+    }
+    
+    private boolean acceptTPARequest(Player player, TPARequest request) {
+        if (request.isRemote()) {
+            return acceptRemoteTPARequest(player, request);
+        }
+        
+        Player from = plugin.getServer().getPlayer(request.getFromId());
+        if (from == null) {
             plugin.getMessageService().sendMessage(player, "tpa-timeout");
-            pendingRequests.remove(request.getFrom().getUniqueId());
+            removeRequest(request.getFromId());
             return false;
         }
         
-        // Teleport
-        from.teleport(player.getLocation());
+        // A second accept while the first teleport is still loading chunks must not teleport twice
+        TeleportService teleportService = plugin.getTeleportService();
+        if (teleportService.isTeleporting(request.getFromId())) {
+            plugin.getMessageService().sendMessage(player, "teleport-in-progress");
+            return false;
+        }
+        
+        // Remove request
+        removeRequest(request.getFromId());
         
         // Send messages
         plugin.getMessageService().sendMessage(player, "tpa-accepted");
         plugin.getMessageService().sendMessage(from, "tpa-accepted-other", "player", player.getName());
         
-        // Remove request
-        pendingRequests.remove(request.getFrom().getUniqueId());
+        // Teleport once the destination chunks are loaded
+        teleportService.teleport(from, player.getLocation()).thenAccept(success -> {
+            if (!success && from.isOnline()) {
+                plugin.getMessageService().sendMessage(from, "teleport-failed");
+            }
+        });
         
         return true;
     }
     
+    private boolean acceptRemoteTPARequest(Player player, TPARequest request) {
+        removeRequest(request.getFromId());
+        
+        // The sender's node moves them here; they are teleported once they join
+        TPARequest arrival = new TPARequest(request.getFromId(), player.getUniqueId(), plugin.getServer().getCurrentTick());
+        arrivals.put(arrival.getFromId(), arrival);
+        arrivalExpirations.schedule(arrival, ARRIVAL_TIMEOUT_TICKS);
+        cluster.send(request.getOriginNode(), ClusterMessage.accept(request.getFromId(), player.getUniqueId(), player.getName()));
+        
+        plugin.getMessageService().sendMessage(player, "tpa-accepted");
+        return true;
+    }
+    
     public boolean denyTPARequest(Player player) {
-        TPARequest request = getRequestToPlayer(player);
+        TPARequest request = pendingRequests.getLatestTo(player.getUniqueId());
         if (request == null) {
             plugin.getMessageService().sendMessage(player, "tpa-no-request");
             return false;
         }
         
-        Player from = request.getFrom();
-        if (from.isOnline()) {
+        return denyTPARequest(player, request);
+    }
+    
+    public boolean denyTPARequest(Player player, String senderName) {
+        TPARequest request = getRequestFrom(player, senderName);
+        if (request == null) {
+            plugin.getMessageService().sendMessage(player, "tpa-no-request-from", "player", senderName);
+            return false;
+        }
+        
+        return denyTPARequest(player, request);
+    }
+    
+    private boolean denyTPARequest(Player player, TPARequest request) {
+        Player from = plugin.getServer().getPlayer(request.getFromId());
+        if (request.isRemote()) {
+            cluster.send(request.getOriginNode(), ClusterMessage.deny(request.getFromId(), player.getUniqueId(), player.getName()));
+        } else if (from != null) {
             plugin.getMessageService().sendMessage(from, "tpa-denied-other", "player", player.getName());
         }
         
         plugin.getMessageService().sendMessage(player, "tpa-denied");
-        pendingRequests.remove(request.getFrom().getUniqueId());
+        removeRequest(request.getFromId());
         
         return true;
     }
     
-    private TPARequest getRequestToPlayer(Player player) {
-        for (TPARequest request : pendingRequests.values()) {
-            if (request.getTo().equals(player)) {
+    /**
+     * Gets the names of all players with a pending request to the given player, oldest first.
+     * 
+     * @param player The recipient
+     * @return List of sender names
+     */
+    public List<String> getRequestSenderNames(Player player) {
+        List<String> names = new ArrayList<>();
+        for (TPARequest request : pendingRequests.getRequestsTo(player.getUniqueId())) {
+            String name = getSenderName(request);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+    
+    /**
+     * Teleports a player that arrived from another node after their request was accepted here.
+     * 
+     * @param player The player that joined
+     */
+    public void handlePlayerJoin(Player player) {
+        TPARequest arrival = arrivals.remove(player.getUniqueId());
+        if (arrival == null) {
+            return;
+        }
+        
+        Player to = plugin.getServer().getPlayer(arrival.getToId());
+        if (to == null) {
+            plugin.getMessageService().sendMessage(player, "teleport-failed");
+            return;
+        }
+        plugin.getTeleportService().teleport(player, to.getLocation()).thenAccept(success -> {
+            if (!success && player.isOnline()) {
+                plugin.getMessageService().sendMessage(player, "teleport-failed");
+            }
+        });
+    }
+    
+    /**
+     * Purges every request sent by or to a player that left the server.
+     * Senders whose target left are told their request was cancelled.
+     * 
+     * @param player The player that quit
+     */
+    public void handlePlayerQuit(Player player) {
+        UUID playerId = player.getUniqueId();
+        removeRequest(playerId);
+        
+        for (TPARequest request : pendingRequests.removeAllTo(playerId)) {
+            if (journal != null && !request.isRemote()) {
+                journal.appendRequestRemoved(request.getFromId());
+            }
+            Player from = plugin.getServer().getPlayer(request.getFromId());
+            if (from != null) {
+                plugin.getMessageService().sendMessage(from, "tpa-target-left", "player", player.getName());
+            }
+        }
+    }
+    
+    /**
+     * Gets the number of pending requests.
+     * 
+     * @return The number of pending requests
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+    
+    int getRequestTargetCount() {
+        return pendingRequests.targetCount();
+    }
+    
+    int getScheduledExpiryCount() {
+        return expirations.size();
+    }
+    
+    int getCooldownCount() {
+        return cooldowns.size();
+    }
+    
+    /**
+     * Finds the pending request to a player from the sender with the given name.
+     * Like {@link org.bukkit.Server#getPlayer(String)}, a partial name matches the sender
+     * whose name starts with it and is closest in length, but only senders with a
+     * pending request are considered.
+     */
+    private TPARequest getRequestFrom(Player player, String senderName) {
+        String partial = senderName.toLowerCase();
+        TPARequest found = null;
+        int bestDelta = Integer.MAX_VALUE;
+        for (TPARequest request : pendingRequests.getRequestsTo(player.getUniqueId())) {
+            String name = getSenderName(request);
+            if (name == null || !name.toLowerCase().startsWith(partial)) {
+                continue;
+            }
+            int delta = name.length() - partial.length();
+            if (delta == 0) {
                 return request;
             }
+            if (delta < bestDelta) {
+                found = request;
+                bestDelta = delta;
+            }
         }
-        return null;
+        return found;
     }
     
-    private boolean isOnCooldown(UUID playerId) {
-        if (!cooldowns.containsKey(playerId)) {
-            return false;
+    private String getSenderName(TPARequest request) {
+        // Senders on other nodes are only known by the name they sent
+        if (request.isRemote()) {
+            return request.getFromName();
         }
-        return System.currentTimeMillis() - cooldowns.get(playerId) < plugin.getConfigService().getTPACooldown() * 1000L;
+        Player from = plugin.getServer().getPlayer(request.getFromId());
+        return from != null ? from.getName() : null;
     }
     
-    private long getCooldownRemaining(UUID playerId) {
-        if (!cooldowns.containsKey(playerId)) {
+    public boolean isOnCooldown(UUID playerId) {
+        return cooldowns.getExpiry(playerId, clock.getAsLong()) != 0;
+    }
+    
+    public long getCooldownRemaining(UUID playerId) {
+        long now = clock.getAsLong();
+        long expiresAt = cooldowns.getExpiry(playerId, now);
+        if (expiresAt == 0) {
             return 0;
         }
-        long elapsed = System.currentTimeMillis() - cooldowns.get(playerId);
-        return Math.max(0, (plugin.getConfigService().getTPACooldown() * 1000L) - elapsed) / 1000L;
+        // Round up so a player is never told to wait 0 seconds
+        return (expiresAt - now + 999L) / 1000L;
     }
     
     private void setCooldown(UUID playerId) {
-        cooldowns.put(playerId, System.currentTimeMillis());
-    }
-    
-    private void scheduleTimeout(UUID playerId) {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                TPARequest request = pendingRequests.remove(playerId);
-                if (request != null && request.getFrom().isOnline()) {
-                    plugin.getMessageService().sendMessage(request.getFrom(), "tpa-timeout");
-                    if (request.getTo().isOnline()) {
-                        plugin.getMessageService().sendMessage(request.getTo(), "tpa-timeout-other", "player", request.getFrom().getName());
+        long cooldown = plugin.getConfigService().getTPACooldown() * 1000L;
+        if (cooldown > 0) {
+            long expiresAt = clock.getAsLong() + cooldown;
+            cooldowns.put(playerId, expiresAt);
+            if (journal != null) {
+                journal.appendCooldown(playerId, expiresAt);
+            }
+        }
+    }
+    
+    private void removeRequest(UUID fromId) {
+        TPARequest removed = pendingRequests.remove(fromId);
+        if (removed != null && !removed.isRemote() && journal != null) {
+            journal.appendRequestRemoved(fromId);
+        }
+    }
+    
+    private void tick() {
+        expirations.tick();
+        arrivalExpirations.tick();
+        lookupExpirations.tick();
+        cooldowns.evictExpired(clock.getAsLong());
+        
+        // Everything queued for other nodes during this tick goes out as one frame per node
+        if (cluster != null) {
+            cluster.flush();
+        }
+    }
+    
+    private void expireRequest(TPARequest request) {
+        UUID fromId = request.getFromId();
+        if (pendingRequests.getBySender(fromId) != request) {
+            return;
+        }
+        
+        // Expiries are not journaled, recovery drops requests past their deadline anyway
+        pendingRequests.remove(fromId);
+        Player from = plugin.getServer().getPlayer(fromId);
+        if (from != null) {
+            plugin.getMessageService().sendMessage(from, "tpa-timeout");
+            Player to = plugin.getServer().getPlayer(request.getToId());
+            if (to != null) {
+                plugin.getMessageService().sendMessage(to, "tpa-timeout-other", "player", from.getName());
+            }
+        }
+    }
+    
+    private void expireLookup(RemoteLookup lookup) {
+        // No node has the target online
+        lookups.remove(lookup.fromId);
+        Player from = plugin.getServer().getPlayer(lookup.fromId);
+        if (from != null) {
+            plugin.getMessageService().sendPlayerNotFound(from, lookup.targetName);
+        }
+    }
+    
+    private void handleClusterMessage(ClusterMessage message) {
+        switch (message.getType()) {
+            case REQUEST:
+                receiveRemoteRequest(message);
+                break;
+            case RECEIVED: {
+                TimingWheel.Timeout<RemoteLookup> lookup = lookups.remove(message.getSenderId());
+                if (lookup != null) {
+                    lookup.cancel();
+                }
+                // Also after a late receipt, as the target has the request either way
+                Player from = plugin.getServer().getPlayer(message.getSenderId());
+                if (from != null) {
+                    setCooldown(from.getUniqueId());
+                    plugin.getMessageService().sendMessage(from, "tpa-sent-remote", "player", message.getTargetName());
+                }
+                break;
+            }
+            case ACCEPT: {
+                Player from = plugin.getServer().getPlayer(message.getSenderId());
+                if (from != null) {
+                    plugin.getMessageService().sendMessage(from, "tpa-accepted-other", "player", message.getTargetName());
+                    cluster.connect(from, message.getOriginNode());
+                }
+                break;
+            }
+            case DENY: {
+                Player from = plugin.getServer().getPlayer(message.getSenderId());
+                if (from != null) {
+                    plugin.getMessageService().sendMessage(from, "tpa-denied-other", "player", message.getTargetName());
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+    
+    private void receiveRemoteRequest(ClusterMessage message) {
+        // Every node receives the broadcast; only the one the target is on keeps it
+        Player to = plugin.getServer().getPlayerExact(message.getTargetName());
+        if (to == null) {
+            return;
+        }
+        
+        TPARequest request = new TPARequest(message.getSenderId(), message.getSenderName(), to.getUniqueId(),
+                message.getOriginNode(), plugin.getServer().getCurrentTick());
+        long timeoutTicks = plugin.getConfigService().getTPATimeout() * 20L;
+        pendingRequests.put(request, expirations.schedule(request, timeoutTicks));
+        cluster.send(message.getOriginNode(), ClusterMessage.received(message.getSenderId(), to.getUniqueId(), to.getName()));
+        plugin.getMessageService().sendMessage(to, "tpa-received", "player", message.getSenderName());
+    }
+    
+    private void openCluster() {
+        ConfigService configService = plugin.getConfigService();
+        if (!configService.isClusterEnabled()) {
+            return;
+        }
+        
+        String nodeId = configService.getClusterNodeId();
+        ClusterTransport transport = "loopback".equalsIgnoreCase(configService.getClusterTransport())
+                ? new LoopbackTransport(nodeId)
+                : new PluginMessagingTransport(plugin, nodeId);
+        cluster = new ClusterMessenger(transport, this::handleClusterMessage, plugin.getLogger());
+        cluster.open();
+    }
+    
+    private void openJournal() {
+        ConfigService configService = plugin.getConfigService();
+        if (!configService.isTPAPersistenceEnabled()) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        long now = clock.getAsLong();
+        Map<UUID, RecoveredRequest> recoveredRequests = new LinkedHashMap<>();
+        TPAJournal opened = new TPAJournal(new File(plugin.getDataFolder(), JOURNAL_FILE), configService.getTPAJournalCompactThreshold());
+        int records;
+        try {
+            records = opened.open(new TPAJournal.Visitor() {
+                @Override
+                public void onCooldown(long playerMost, long playerLeast, long expiresAt) {
+                    if (expiresAt > now) {
+                        cooldowns.put(playerMost, playerLeast, expiresAt);
                     }
                 }
+                
+                @Override
+                public void onRequest(UUID fromId, UUID toId, long expiresAt) {
+                    recoveredRequests.remove(fromId);
+                    recoveredRequests.put(fromId, new RecoveredRequest(toId, expiresAt));
+                }
+                
+                @Override
+                public void onRequestRemoved(UUID fromId) {
+                    recoveredRequests.remove(fromId);
+                }
+            });
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not open TPA journal, requests and cooldowns will not persist: " + e.getMessage());
+            return;
+        }
+        
+        int currentTick = plugin.getServer().getCurrentTick();
+        for (Map.Entry<UUID, RecoveredRequest> entry : recoveredRequests.entrySet()) {
+            RecoveredRequest recovered = entry.getValue();
+            if (recovered.expiresAt <= now) {
+                continue;
             }
-        }.runTaskLater(plugin, plugin.getConfigService().getTPATimeout() * 20L);
+            TPARequest request = new TPARequest(entry.getKey(), recovered.toId, currentTick);
+            long delayTicks = (recovered.expiresAt - now + 49L) / 50L;
+            pendingRequests.put(request, expirations.schedule(request, delayTicks));
+        }
+        
+        journal = opened;
+        long interval = configService.getTPAJournalFlushInterval();
+        journalTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::flushJournal, interval, interval);
+        plugin.getLogger().info(String.format("Recovered %d TPA requests and %d cooldowns from %d journal records in %.1f ms",
+                pendingRequests.size(), cooldowns.size(), records, (System.nanoTime() - start) / 1_000_000D));
+    }
+    
+    private void flushJournal() {
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write TPA journal: " + e.getMessage());
+        }
     }
     
     public void shutdown() {
+        if (expiryTask != null) {
+            expiryTask.cancel();
+            expiryTask = null;
+        }
+        if (journalTask != null) {
+            journalTask.cancel();
+            journalTask = null;
+        }
+        if (cluster != null) {
+            cluster.flush();
+            cluster.close();
+            cluster = null;
+        }
+        if (journal != null) {
+            try {
+                journal.shutdown();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not write TPA journal: " + e.getMessage());
+            }
+            journal = null;
+        }
         pendingRequests.clear();
+        expirations.clear();
+        arrivals.clear();
+        arrivalExpirations.clear();
+        lookups.clear();
+        lookupExpirations.clear();
         cooldowns.clear();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Request sent to another node, waiting for the node the target is on to confirm it.
+     */
+    private static final class RemoteLookup {
+        private final UUID fromId;
+        private final String targetName;
+        
+        private RemoteLookup(UUID fromId, String targetName) {
+            this.fromId = fromId;
+            this.targetName = targetName;
+        }
+    }
+    
+    /**
+     * Request read back from the journal, waiting to be re-scheduled.
+     */
+    private static final class RecoveredRequest {
+        private final UUID toId;
+        private final long expiresAt;
+        
+        private RecoveredRequest(UUID toId, long expiresAt) {
+            this.toId = toId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
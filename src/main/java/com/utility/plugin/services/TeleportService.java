@@ -0,0 +1,208 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.models.TeleportMetrics;
+import com.utility.plugin.utils.TickBudgetedTask;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Service class for asynchronous teleports.
+ * Prefetches the chunks around the destination with Paper's async chunk loading
+ * before calling teleportAsync, so the main thread never blocks on chunk loads.
+ * Mass teleports load the destination once and are spread over several ticks.
+ * 
+ * @author UtilityPlugin Team
+ */
+public class TeleportService {
+    
+    private final UtilityPlugin plugin;
+    private final Set<UUID> inFlight = new HashSet<>();
+    private final TeleportMetrics metrics = new TeleportMetrics();
+    private final Set<TickBudgetedTask<UUID>> batches = new HashSet<>();
+    
+    public TeleportService(UtilityPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Teleports a player after loading the chunks around the destination asynchronously.
+     * Only one teleport per player can be in flight at a time.
+     * 
+     * @param player The player to teleport
+     * @param destination The destination
+     * @return Future completing on the main thread with whether the teleport succeeded;
+     *         completes with false immediately if the player is already teleporting
+     */
+    public CompletableFuture<Boolean> teleport(Player player, Location destination) {
+        Location target = destination.clone();
+        return teleport(player, target, () -> prefetchChunks(target));
+    }
+    
+    /**
+     * Teleports many players to one destination, spread over as many ticks as the
+     * configured per-tick budget requires. The destination chunks are loaded once up front.
+     * The issuer is told about the progress and gets a report once every teleport completed,
+     * or is told why nobody was moved if the destination could not be loaded.
+     * 
+     * @param issuer The staff member who started the teleport
+     * @param players The players to teleport
+     * @param destination The destination
+     */
+    public void teleportAll(CommandSender issuer, Collection<? extends Player> players, Location destination) {
+        Location target = destination.clone();
+        List<UUID> order = new ArrayList<>(players.size());
+        for (Player player : players) {
+            order.add(player.getUniqueId());
+        }
+        MassTeleport progress = new MassTeleport(order.size());
+        plugin.getMessageService().broadcast(players, "teleport-here-other", "player", issuer.getName());
+        
+        prefetchChunks(target).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                plugin.getLogger().warning("Mass teleport aborted, the destination could not be loaded: " + throwable.getMessage());
+                plugin.getMessageService().sendMessage(issuer, "tpaall-failed", "error", String.valueOf(throwable.getMessage()));
+                return;
+            }
+            startMassTeleport(issuer, order, target, progress);
+        });
+    }
+    
+    private void startMassTeleport(CommandSender issuer, List<UUID> order, Location target, MassTeleport progress) {
+        ConfigService configService = plugin.getConfigService();
+        TickBudgetedTask<UUID> batch = new TickBudgetedTask<>(order, playerId -> {
+            Player player = plugin.getServer().getPlayer(playerId);
+            if (player == null) {
+                progress.skipped++;
+                return;
+            }
+            progress.futures.add(teleport(player, target, () -> CompletableFuture.completedFuture(null))
+                    .thenAccept(success -> {
+                        if (!success) {
+                            progress.failed++;
+                        }
+                    }));
+        }, configService.getMassTeleportTickBudget());
+        
+        batch.onProgress(configService.getMassTeleportProgressInterval(), (processed, total) ->
+                plugin.getMessageService().sendMessage(issuer, "tpaall-progress",
+                        "done", String.valueOf(processed), "total", String.valueOf(total)));
+        batch.onComplete(() -> {
+            batches.remove(batch);
+            CompletableFuture.allOf(progress.futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+                int teleported = progress.total - progress.skipped - progress.failed;
+                plugin.getMessageService().sendMessage(issuer, "tpaall-complete",
+                        "count", String.valueOf(teleported),
+                        "failed", String.valueOf(progress.failed + progress.skipped),
+                        "time", String.valueOf((System.nanoTime() - progress.startNanos) / 1_000_000L));
+            });
+        });
+        batches.add(batch);
+        batch.start(plugin);
+    }
+    
+    private CompletableFuture<Boolean> teleport(Player player, Location target, Supplier<CompletableFuture<Void>> prefetch) {
+        UUID playerId = player.getUniqueId();
+        if (!inFlight.add(playerId)) {
+            metrics.recordRejected();
+            return CompletableFuture.completedFuture(false);
+        }
+        
+        long prefetchStart = System.nanoTime();
+        return prefetch.get()
+                .thenCompose(ignored -> {
+                    long teleportStart = System.nanoTime();
+                    metrics.recordPrefetch(teleportStart - prefetchStart);
+                    if (!player.isOnline()) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    return player.teleportAsync(target)
+                            .thenApply(success -> {
+                                metrics.recordTeleport(System.nanoTime() - teleportStart, success);
+                                return success;
+                            });
+                })
+                .exceptionally(throwable -> {
+                    plugin.getLogger().warning("Teleport of " + player.getName() + " failed: " + throwable.getMessage());
+                    return false;
+                })
+                .whenComplete((success, throwable) -> inFlight.remove(playerId));
+    }
+    
+    /**
+     * Checks whether a player has a teleport in flight.
+     * 
+     * @param playerId The UUID of the player
+     * @return true if a teleport of the player has not completed yet
+     */
+    public boolean isTeleporting(UUID playerId) {
+        return inFlight.contains(playerId);
+    }
+    
+    /**
+     * Loads the chunks around a location asynchronously.
+     * 
+     * @param location The center location
+     * @return Future completing once every chunk in the configured radius is loaded
+     */
+    public CompletableFuture<Void> prefetchChunks(Location location) {
+        World world = location.getWorld();
+        int radius = plugin.getConfigService().getTeleportPrefetchRadius();
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Chunk>[] chunks = new CompletableFuture[(radius * 2 + 1) * (radius * 2 + 1)];
+        int index = 0;
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                chunks[index++] = world.getChunkAtAsync(x, z);
+            }
+        }
+        return CompletableFuture.allOf(chunks);
+    }
+    
+    /**
+     * Gets the timing metrics of the teleport pipeline.
+     * 
+     * @return The teleport metrics
+     */
+    public TeleportMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public void shutdown() {
+        for (TickBudgetedTask<UUID> batch : batches) {
+            batch.cancel();
+        }
+        batches.clear();
+        inFlight.clear();
+    }
+    
+    /**
+     * Running totals of one mass teleport, only touched on the main thread.
+     */
+    private static final class MassTeleport {
+        private final int total;
+        private final long startNanos = System.nanoTime();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        private int skipped;
+        private int failed;
+        
+        private MassTeleport(int total) {
+            this.total = total;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.utility.plugin.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyFormat;
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adventure form of a message template, for sending one message to many players.
+ * The literal parts of the message are deserialized into components once, each carrying
+ * the colours it inherits from the text before it, and every placeholder keeps the style
+ * in effect where it appears. Rendering only wraps the values in text components and
+ * links them with the shared parts, so nothing is parsed or colour-translated per send.
+ * A message without placeholders renders to the same component instance every time.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ComponentTemplate {
+    
+    // Also reads the §x§r§r§g§g§b§b hex colours that translateAlternateColorCodes produces
+    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.builder()
+            .character(LegacyComponentSerializer.SECTION_CHAR)
+            .hexColors()
+            .useUnusualXRepeatedCharacterHexFormat()
+            .build();
+    
+    private final Component[] parts;
+    private final String[] placeholders;
+    private final Style[] styles;
+    
+    private ComponentTemplate(Component[] parts, String[] placeholders, Style[] styles) {
+        this.parts = parts;
+        this.placeholders = placeholders;
+        this.styles = styles;
+    }
+    
+    /**
+     * Builds the component form of a compiled message.
+     * 
+     * @param literals The translated literal segments around the placeholders
+     * @param placeholders The placeholder names
+     * @return The component template
+     */
+    static ComponentTemplate of(String[] literals, String[] placeholders) {
+        Component[] parts = new Component[literals.length];
+        Style[] styles = new Style[placeholders.length];
+        StringBuilder before = new StringBuilder();
+        for (int i = 0; i < literals.length; i++) {
+            String colors = ChatColor.getLastColors(before.toString());
+            parts[i] = literals[i].isEmpty() ? Component.empty() : SERIALIZER.deserialize(colors + literals[i]);
+            before.append(literals[i]);
+            if (i < placeholders.length) {
+                styles[i] = toStyle(ChatColor.getLastColors(before.toString()));
+            }
+        }
+        return new ComponentTemplate(parts, placeholders, styles);
+    }
+    
+    /**
+     * Renders the message.
+     * 
+     * @param replacements Alternating placeholder names and values
+     * @return The rendered component; placeholders without a value are kept as written
+     */
+    public Component render(String... replacements) {
+        if (placeholders.length == 0) {
+            return parts[0];
+        }
+        
+        ComponentLike[] children = new ComponentLike[parts.length + placeholders.length];
+        children[0] = parts[0];
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = MessageTemplate.lookup(placeholders[i], replacements);
+            children[2 * i + 1] = Component.text(value != null ? value : "{" + placeholders[i] + "}", styles[i]);
+            children[2 * i + 2] = parts[i + 1];
+        }
+        return Component.textOfChildren(children);
+    }
+    
+    /**
+     * Resolves the placeholders shared by every recipient, leaving only the per-recipient
+     * ones. The resolved values are merged into the shared parts, so rendering the result
+     * per recipient only has to overlay the remaining placeholders.
+     * 
+     * @param replacements Alternating placeholder names and values shared by all recipients
+     * @return The partially resolved template
+     */
+    public ComponentTemplate bind(String... replacements) {
+        List<Component> boundParts = new ArrayList<>();
+        List<String> boundPlaceholders = new ArrayList<>();
+        List<Style> boundStyles = new ArrayList<>();
+        
+        List<ComponentLike> run = new ArrayList<>();
+        run.add(parts[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = MessageTemplate.lookup(placeholders[i], replacements);
+            if (value != null) {
+                run.add(Component.text(value, styles[i]));
+            } else {
+                boundParts.add(join(run));
+                boundPlaceholders.add(placeholders[i]);
+                boundStyles.add(styles[i]);
+                run.clear();
+            }
+            run.add(parts[i + 1]);
+        }
+        boundParts.add(join(run));
+        
+        return new ComponentTemplate(boundParts.toArray(new Component[0]),
+                boundPlaceholders.toArray(new String[0]), boundStyles.toArray(new Style[0]));
+    }
+    
+    /**
+     * Gets the number of placeholders left to fill in.
+     * 
+     * @return The number of placeholders
+     */
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+    
+    private static Component join(List<ComponentLike> run) {
+        return run.size() == 1 ? run.get(0).asComponent() : Component.textOfChildren(run.toArray(new ComponentLike[0]));
+    }
+    
+    /**
+     * Converts the trailing legacy codes of a text into the style they put in effect.
+     * A colour code resets the formatting codes before it, as it does in legacy text.
+     */
+    private static Style toStyle(String legacyCodes) {
+        Style.Builder style = Style.style();
+        for (int i = 0; i + 1 < legacyCodes.length(); i += 2) {
+            char code = Character.toLowerCase(legacyCodes.charAt(i + 1));
+            if (code == 'x' && i + 14 <= legacyCodes.length()) {
+                StringBuilder hex = new StringBuilder("#");
+                for (int j = i + 3; j < i + 14; j += 2) {
+                    hex.append(legacyCodes.charAt(j));
+                }
+                TextColor color = TextColor.fromHexString(hex.toString());
+                if (color != null) {
+                    style = Style.style().color(color);
+                }
+                i += 12;
+                continue;
+            }
+            
+            LegacyFormat format = LegacyComponentSerializer.parseChar(code);
+            if (format == null) {
+                continue;
+            }
+            TextColor color = format.color();
+            TextDecoration decoration = format.decoration();
+            if (color != null) {
+                style = Style.style().color(color);
+            } else if (decoration != null) {
+                style.decoration(decoration, true);
+            } else if (format.reset()) {
+                style = Style.style();
+            }
+        }
+        return style.build();
+    }
+}
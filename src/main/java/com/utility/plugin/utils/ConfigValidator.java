@@ -0,0 +1,179 @@
+package com.utility.plugin.utils;
+
+import com.utility.plugin.models.GodModePolicy;
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks a parsed config.yml before it is put in use.
+ * Every problem is reported with the line of the offending key in the source text,
+ * so a typo made while editing a live server can be found straight away.
+ * Settings that are not set in the file are not checked; their defaults apply.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ConfigValidator {
+    
+    private static final List<String> TRANSPORTS = Arrays.asList("plugin-messaging", "loopback");
+    
+    private ConfigValidator() {
+    }
+    
+    /**
+     * Validates a configuration parsed from the given source text.
+     * 
+     * @param config The parsed configuration, without defaults attached
+     * @param source The YAML text the configuration was parsed from
+     * @return The problems found, each prefixed with its line; empty if the configuration is valid
+     */
+    public static List<String> validate(Configuration config, String source) {
+        String[] lines = source.split("\r?\n", -1);
+        List<String> problems = new ArrayList<>();
+        
+        checkString(config, lines, "prefix", problems);
+        checkBoolean(config, lines, "auto-reload", problems);
+        checkBoolean(config, lines, "locale.enabled", problems);
+        checkNumber(config, lines, "locale.cache-size", 1, problems);
+        checkBoolean(config, lines, "chat.coalesce", problems);
+        checkNumber(config, lines, "chat.dedupe-window-ticks", 0, problems);
+        checkNumber(config, lines, "trace.buffer-size", 1, problems);
+        checkBoolean(config, lines, "god.hunger", problems);
+        checkBoolean(config, lines, "god.fall-damage", problems);
+        checkGodPolicies(config, lines, problems);
+        checkNumber(config, lines, "fix.tick-budget-nanos", 1, problems);
+        checkNumber(config, lines, "fix.auto-repair-threshold", 1, problems);
+        checkNumber(config, lines, "offline-inventory.cache-size", 1, problems);
+        checkNumber(config, lines, "offline-inventory.cache-ttl-seconds", 1, problems);
+        checkNumber(config, lines, "tpa.timeout", 1, problems);
+        checkNumber(config, lines, "tpa.cooldown", 0, problems);
+        checkNumber(config, lines, "tpa.prefetch-radius", 0, problems);
+        checkNumber(config, lines, "tpa.mass-teleport.tick-budget-nanos", 1, problems);
+        checkNumber(config, lines, "tpa.mass-teleport.progress-interval-ticks", 1, problems);
+        checkBoolean(config, lines, "tpa.persistence.enabled", problems);
+        checkNumber(config, lines, "tpa.persistence.flush-interval-ticks", 1, problems);
+        checkNumber(config, lines, "tpa.persistence.compact-threshold", 1, problems);
+        checkBoolean(config, lines, "cluster.enabled", problems);
+        checkString(config, lines, "cluster.node-id", problems);
+        if (checkString(config, lines, "cluster.transport", problems)
+                && !TRANSPORTS.contains(config.getString("cluster.transport"))) {
+            problems.add(at(lines, "cluster.transport") + "cluster.transport must be one of " + TRANSPORTS);
+        }
+        
+        if (config.isSet("messages") && !config.isConfigurationSection("messages")) {
+            problems.add(at(lines, "messages") + "messages must be a section of message names");
+        }
+        ConfigurationSection messages = config.getConfigurationSection("messages");
+        if (messages != null) {
+            for (String path : messages.getKeys(false)) {
+                if (!messages.isString(path)) {
+                    problems.add(at(lines, "messages." + path) + "messages." + path + " must be text");
+                }
+            }
+        }
+        return problems;
+    }
+    
+    private static void checkGodPolicies(Configuration config, String[] lines, List<String> problems) {
+        ConfigurationSection policies = config.getConfigurationSection("god.policies");
+        if (policies == null) {
+            return;
+        }
+        for (String name : policies.getKeys(false)) {
+            String path = "god.policies." + name + ".causes";
+            if (!config.isList(path)) {
+                problems.add(at(lines, path) + path + " must be a list of damage causes");
+                continue;
+            }
+            for (String cause : config.getStringList(path)) {
+                if (!GodModePolicy.isValidCause(cause)) {
+                    problems.add(at(lines, path) + path + " has unknown damage cause " + cause);
+                }
+            }
+        }
+    }
+    
+    private static boolean checkString(Configuration config, String[] lines, String path, List<String> problems) {
+        if (!config.isSet(path)) {
+            return false;
+        }
+        if (!config.isString(path)) {
+            problems.add(at(lines, path) + path + " must be text");
+            return false;
+        }
+        return true;
+    }
+    
+    private static void checkBoolean(Configuration config, String[] lines, String path, List<String> problems) {
+        if (config.isSet(path) && !config.isBoolean(path)) {
+            problems.add(at(lines, path) + path + " must be true or false");
+        }
+    }
+    
+    private static void checkNumber(Configuration config, String[] lines, String path, long min, List<String> problems) {
+        if (!config.isSet(path)) {
+            return;
+        }
+        if (!config.isInt(path) && !config.isLong(path)) {
+            problems.add(at(lines, path) + path + " must be a whole number");
+        } else if (config.getLong(path, min) < min) {
+            problems.add(at(lines, path) + path + " must be at least " + min);
+        }
+    }
+    
+    private static String at(String[] lines, String path) {
+        int line = findLine(lines, path);
+        return line > 0 ? "line " + line + ": " : "";
+    }
+    
+    /**
+     * Finds the line a dotted key is defined on, following the indentation of the
+     * block-style YAML this plugin ships.
+     * 
+     * @param lines The lines of the source text
+     * @param path The dotted key
+     * @return The 1-based line number, or -1 if the key cannot be located
+     */
+    static int findLine(String[] lines, String path) {
+        String[] keys = path.split("\\.");
+        int depth = 0;
+        int parentIndent = -1;
+        int childIndent = -1;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            
+            int indent = line.indexOf(trimmed.charAt(0));
+            if (depth > 0 && indent <= parentIndent) {
+                // Left the section without finding the key
+                return -1;
+            }
+            if (childIndent < 0) {
+                childIndent = indent;
+            }
+            if (indent == childIndent && definesKey(trimmed, keys[depth])) {
+                if (depth == keys.length - 1) {
+                    return i + 1;
+                }
+                depth++;
+                parentIndent = indent;
+                childIndent = -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean definesKey(String trimmed, String key) {
+        return trimmed.startsWith(key + ":")
+                || trimmed.startsWith("\"" + key + "\":")
+                || trimmed.startsWith("'" + key + "':");
+    }
+}
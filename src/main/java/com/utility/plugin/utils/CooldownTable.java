@@ -0,0 +1,292 @@
+package com.utility.plugin.utils;
+
+import java.util.UUID;
+
+/**
+ * Compact open-addressing table of per-player cooldown expiries.
+ * Keys are stored as the two halves of the UUID and values as the expiry timestamp,
+ * all in primitive arrays, so no entry is ever boxed.
+ * Every entry is also filed in a time bucket by expiry; {@link #evictExpired(long)}
+ * only visits the buckets that elapsed since the previous call, so entries drop out
+ * on their own once their cooldown has passed.
+ * Not thread-safe: all methods must run on the main thread.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CooldownTable {
+    
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+    
+    private final long bucketMillis;
+    private final long[][] buckets;
+    private final int[] bucketSizes;
+    private final int bucketMask;
+    private long[] spareBucket = new long[8];
+    private long lastBucket = Long.MIN_VALUE;
+    
+    private long[] keysMost;
+    private long[] keysLeast;
+    private long[] expiries;
+    private int mask;
+    private int size;
+    
+    /**
+     * Constructs a new CooldownTable instance.
+     * 
+     * @param bucketMillis The width of an eviction bucket in milliseconds
+     * @param bucketCount The number of buckets, rounded up to a power of two
+     */
+    public CooldownTable(long bucketMillis, int bucketCount) {
+        int ringSize = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.bucketMillis = bucketMillis;
+        this.buckets = new long[ringSize][];
+        this.bucketSizes = new int[ringSize];
+        this.bucketMask = ringSize - 1;
+        allocate(MIN_CAPACITY);
+    }
+    
+    /**
+     * Sets the cooldown expiry of a player, replacing any previous expiry.
+     * 
+     * @param playerId The UUID of the player
+     * @param expiresAt The time in milliseconds at which the cooldown ends
+     */
+    public void put(UUID playerId, long expiresAt) {
+        put(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), expiresAt);
+    }
+    
+    /**
+     * Sets the cooldown expiry of a player given the two halves of their UUID.
+     * 
+     * @param most The most significant bits of the player's UUID
+     * @param least The least significant bits of the player's UUID
+     * @param expiresAt The time in milliseconds at which the cooldown ends
+     */
+    public void put(long most, long least, long expiresAt) {
+        if (expiresAt <= EMPTY) {
+            return;
+        }
+        if ((size + 1) * 2 > expiries.length) {
+            resize(expiries.length * 2);
+        }
+        
+        int slot = home(most, least);
+        while (expiries[slot] != EMPTY && (keysMost[slot] != most || keysLeast[slot] != least)) {
+            slot = (slot + 1) & mask;
+        }
+        if (expiries[slot] == EMPTY) {
+            keysMost[slot] = most;
+            keysLeast[slot] = least;
+            size++;
+        }
+        expiries[slot] = expiresAt;
+        file(expiresAt / bucketMillis, most, least);
+    }
+    
+    /**
+     * Gets the cooldown expiry of a player with a single probe sequence.
+     * An entry found already expired is removed on the spot.
+     * 
+     * @param playerId The UUID of the player
+     * @param now The current time in milliseconds
+     * @return The expiry timestamp, or 0 if the player is not on cooldown
+     */
+    public long getExpiry(UUID playerId, long now) {
+        int slot = find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (slot < 0) {
+            return EMPTY;
+        }
+        long expiresAt = expiries[slot];
+        if (expiresAt <= now) {
+            delete(slot);
+            return EMPTY;
+        }
+        return expiresAt;
+    }
+    
+    /**
+     * Removes the cooldown of a player.
+     * 
+     * @param playerId The UUID of the player
+     */
+    public void remove(UUID playerId) {
+        int slot = find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (slot >= 0) {
+            delete(slot);
+        }
+    }
+    
+    /**
+     * Drops every entry whose cooldown has passed, visiting only the buckets
+     * that elapsed since the previous call.
+     * 
+     * @param now The current time in milliseconds
+     */
+    public void evictExpired(long now) {
+        long currentBucket = now / bucketMillis;
+        if (lastBucket == Long.MIN_VALUE) {
+            lastBucket = currentBucket - 1;
+            return;
+        }
+        
+        // A bucket is only complete once the clock has moved past it
+        long first = Math.max(lastBucket + 1, currentBucket - buckets.length);
+        for (long bucket = first; bucket < currentBucket; bucket++) {
+            evictBucket((int) (bucket & bucketMask), now);
+        }
+        lastBucket = Math.max(lastBucket, currentBucket - 1);
+        
+        if (expiries.length > MIN_CAPACITY && size * 8 < expiries.length) {
+            resize(Math.max(MIN_CAPACITY, expiries.length / 2));
+        }
+    }
+    
+    /**
+     * Gets the number of tracked cooldowns, including expired ones not yet evicted.
+     * 
+     * @return The number of entries
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Gets the number of slots in the table.
+     * 
+     * @return The table capacity
+     */
+    public int capacity() {
+        return expiries.length;
+    }
+    
+    /**
+     * Removes all cooldowns.
+     */
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = null;
+            bucketSizes[i] = 0;
+        }
+        lastBucket = Long.MIN_VALUE;
+    }
+    
+    private void evictBucket(int index, long now) {
+        long[] keys = buckets[index];
+        int count = bucketSizes[index];
+        if (count == 0) {
+            return;
+        }
+        
+        // Swap in an empty array so entries filed back into this slot do not clobber the scan
+        buckets[index] = spareBucket;
+        bucketSizes[index] = 0;
+        for (int i = 0; i < count; i += 2) {
+            int slot = find(keys[i], keys[i + 1]);
+            if (slot < 0) {
+                continue;
+            }
+            long expiresAt = expiries[slot];
+            if (expiresAt <= now) {
+                delete(slot);
+            } else if (((expiresAt / bucketMillis) & bucketMask) == index) {
+                // Expiry lies more than one ring further out; keep it filed here
+                file(expiresAt / bucketMillis, keys[i], keys[i + 1]);
+            }
+        }
+        spareBucket = keys;
+    }
+    
+    private void file(long bucket, long most, long least) {
+        int index = (int) (bucket & bucketMask);
+        long[] keys = buckets[index];
+        int count = bucketSizes[index];
+        if (keys == null) {
+            keys = new long[8];
+            buckets[index] = keys;
+        } else if (count + 2 > keys.length) {
+            long[] grown = new long[keys.length * 2];
+            System.arraycopy(keys, 0, grown, 0, count);
+            keys = grown;
+            buckets[index] = keys;
+        }
+        keys[count] = most;
+        keys[count + 1] = least;
+        bucketSizes[index] = count + 2;
+    }
+    
+    private int find(long most, long least) {
+        int slot = home(most, least);
+        while (expiries[slot] != EMPTY) {
+            if (keysMost[slot] == most && keysLeast[slot] == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    private void delete(int slot) {
+        // Backward-shift deletion keeps every probe chain intact without tombstones
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (expiries[next] == EMPTY) {
+                break;
+            }
+            int home = home(keysMost[next], keysLeast[next]);
+            boolean staysPut = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (staysPut) {
+                continue;
+            }
+            keysMost[hole] = keysMost[next];
+            keysLeast[hole] = keysLeast[next];
+            expiries[hole] = expiries[next];
+            hole = next;
+        }
+        keysMost[hole] = 0L;
+        keysLeast[hole] = 0L;
+        expiries[hole] = EMPTY;
+        size--;
+    }
+    
+    private void resize(int capacity) {
+        long[] oldMost = keysMost;
+        long[] oldLeast = keysLeast;
+        long[] oldExpiries = expiries;
+        allocate(capacity);
+        for (int i = 0; i < oldExpiries.length; i++) {
+            if (oldExpiries[i] == EMPTY) {
+                continue;
+            }
+            int slot = home(oldMost[i], oldLeast[i]);
+            while (expiries[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keysMost[slot] = oldMost[i];
+            keysLeast[slot] = oldLeast[i];
+            expiries[slot] = oldExpiries[i];
+            size++;
+        }
+    }
+    
+    private void allocate(int capacity) {
+        keysMost = new long[capacity];
+        keysLeast = new long[capacity];
+        expiries = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+    
+    private int home(long most, long least) {
+        long hash = most ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
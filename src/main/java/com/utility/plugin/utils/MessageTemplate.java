@@ -0,0 +1,138 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, precompiled form of a configured message.
+ * The prefix and colour codes are applied once when the template is compiled, and the
+ * text is split into literal segments around its {placeholder} tokens, so rendering is a
+ * single pass appending segments and values into a reused builder.
+ * Placeholder values are inserted as-is, so colour codes in player-supplied values are
+ * not translated. For broadcasts the same message is available as a {@link ComponentTemplate}.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+    
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    
+    private final String[] literals;
+    private final String[] placeholders;
+    private volatile ComponentTemplate component;
+    
+    private MessageTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+    
+    /**
+     * Compiles a message with the given prefix.
+     * 
+     * @param prefix The message prefix, with '&amp;' colour codes
+     * @param message The message, with '&amp;' colour codes and {placeholder} tokens
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String prefix, String message) {
+        String text = ChatColor.translateAlternateColorCodes('&', prefix + message);
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        
+        int literalStart = 0;
+        int open = text.indexOf('{');
+        while (open >= 0) {
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            String name = text.substring(open + 1, close);
+            if (isPlaceholderName(name)) {
+                literals.add(text.substring(literalStart, open));
+                placeholders.add(name);
+                literalStart = close + 1;
+                open = text.indexOf('{', literalStart);
+            } else {
+                open = text.indexOf('{', open + 1);
+            }
+        }
+        literals.add(text.substring(literalStart));
+        
+        return new MessageTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+    
+    /**
+     * Renders the message.
+     * 
+     * @param replacements Alternating placeholder names and values
+     * @return The rendered message; placeholders without a value are kept as written
+     */
+    public String render(String... replacements) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+        
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = lookup(placeholders[i], replacements);
+            if (value == null) {
+                builder.append('{').append(placeholders[i]).append('}');
+            } else {
+                builder.append(value);
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Gets the Adventure form of the message, built on first use.
+     * 
+     * @return The component template
+     */
+    public ComponentTemplate toComponent() {
+        ComponentTemplate template = component;
+        if (template == null) {
+            // Racing threads build equal templates, so publishing either one is fine
+            template = ComponentTemplate.of(literals, placeholders);
+            component = template;
+        }
+        return template;
+    }
+    
+    /**
+     * Gets the number of placeholder tokens in the message.
+     * 
+     * @return The number of placeholders
+     */
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+    
+    static String lookup(String name, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (name.equals(replacements[i])) {
+                return replacements[i + 1];
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
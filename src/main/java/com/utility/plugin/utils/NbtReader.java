@@ -0,0 +1,217 @@
+package com.utility.plugin.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming reader for the binary NBT format Minecraft stores player data in.
+ * Tags are read one at a time straight from the stream; no tree of the file is built,
+ * and tags that are not needed are skipped, or copied verbatim to an output without
+ * being decoded.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NbtReader {
+    
+    public static final byte TAG_END = 0;
+    public static final byte TAG_BYTE = 1;
+    public static final byte TAG_SHORT = 2;
+    public static final byte TAG_INT = 3;
+    public static final byte TAG_LONG = 4;
+    public static final byte TAG_FLOAT = 5;
+    public static final byte TAG_DOUBLE = 6;
+    public static final byte TAG_BYTE_ARRAY = 7;
+    public static final byte TAG_STRING = 8;
+    public static final byte TAG_LIST = 9;
+    public static final byte TAG_COMPOUND = 10;
+    public static final byte TAG_INT_ARRAY = 11;
+    public static final byte TAG_LONG_ARRAY = 12;
+    
+    // Same nesting limit as the game, so a corrupt file cannot overflow the stack
+    private static final int MAX_DEPTH = 512;
+    private static final int COPY_BUFFER = 4096;
+    
+    private final DataInputStream in;
+    private byte[] buffer;
+    
+    /**
+     * Constructs a new NbtReader instance.
+     * 
+     * @param in The uncompressed NBT stream
+     */
+    public NbtReader(InputStream in) {
+        this.in = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+    }
+    
+    /**
+     * Reads the header of the root tag, leaving the reader at the first entry of the root compound.
+     * 
+     * @return The name of the root tag, usually empty
+     * @throws IOException If the stream cannot be read or does not start with a compound
+     */
+    public String readRootCompound() throws IOException {
+        byte type = in.readByte();
+        if (type != TAG_COMPOUND) {
+            throw new IOException("Expected a compound as the root tag, found tag type " + type);
+        }
+        return in.readUTF();
+    }
+    
+    /**
+     * Reads the type of the next entry of the current compound.
+     * 
+     * @return The tag type, or {@link #TAG_END} at the end of the compound
+     * @throws IOException If the stream cannot be read
+     */
+    public byte readType() throws IOException {
+        byte type = in.readByte();
+        if (type < TAG_END || type > TAG_LONG_ARRAY) {
+            throw new IOException("Unknown tag type " + type);
+        }
+        return type;
+    }
+    
+    /**
+     * Reads the name of an entry, after its type.
+     * 
+     * @return The entry name
+     * @throws IOException If the stream cannot be read
+     */
+    public String readName() throws IOException {
+        return in.readUTF();
+    }
+    
+    public byte readByte() throws IOException {
+        return in.readByte();
+    }
+    
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+    
+    /**
+     * Reads the length of a list or array, after a list's element type.
+     * 
+     * @return The number of elements
+     * @throws IOException If the stream cannot be read or the length is negative
+     */
+    public int readLength() throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length " + length);
+        }
+        return length;
+    }
+    
+    /**
+     * Skips the payload of a tag.
+     * 
+     * @param type The tag type
+     * @throws IOException If the stream cannot be read
+     */
+    public void skip(byte type) throws IOException {
+        transfer(type, null, 0);
+    }
+    
+    /**
+     * Copies the payload of a tag to an output unchanged.
+     * 
+     * @param type The tag type
+     * @param out The output
+     * @throws IOException If the stream cannot be read or the output cannot be written
+     */
+    public void copy(byte type, DataOutput out) throws IOException {
+        transfer(type, out, 0);
+    }
+    
+    private void transfer(byte type, DataOutput out, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("NBT nested deeper than " + MAX_DEPTH + " levels");
+        }
+        switch (type) {
+            case TAG_BYTE:
+                transferBytes(1, out);
+                break;
+            case TAG_SHORT:
+                transferBytes(2, out);
+                break;
+            case TAG_INT:
+            case TAG_FLOAT:
+                transferBytes(4, out);
+                break;
+            case TAG_LONG:
+            case TAG_DOUBLE:
+                transferBytes(8, out);
+                break;
+            case TAG_BYTE_ARRAY:
+                transferBytes(transferLength(out), out);
+                break;
+            case TAG_INT_ARRAY:
+                transferBytes(transferLength(out) * 4L, out);
+                break;
+            case TAG_LONG_ARRAY:
+                transferBytes(transferLength(out) * 8L, out);
+                break;
+            case TAG_STRING:
+                int length = in.readUnsignedShort();
+                if (out != null) {
+                    out.writeShort(length);
+                }
+                transferBytes(length, out);
+                break;
+            case TAG_LIST:
+                byte elementType = readType();
+                if (out != null) {
+                    out.writeByte(elementType);
+                }
+                int size = transferLength(out);
+                for (int i = 0; i < size; i++) {
+                    transfer(elementType, out, depth + 1);
+                }
+                break;
+            case TAG_COMPOUND:
+                byte entryType;
+                while ((entryType = readType()) != TAG_END) {
+                    if (out != null) {
+                        out.writeByte(entryType);
+                    }
+                    transfer(TAG_STRING, out, depth + 1);
+                    transfer(entryType, out, depth + 1);
+                }
+                if (out != null) {
+                    out.writeByte(TAG_END);
+                }
+                break;
+            default:
+                throw new IOException("Unexpected tag type " + type);
+        }
+    }
+    
+    private int transferLength(DataOutput out) throws IOException {
+        int length = readLength();
+        if (out != null) {
+            out.writeInt(length);
+        }
+        return length;
+    }
+    
+    private void transferBytes(long count, DataOutput out) throws IOException {
+        if (out == null) {
+            in.skipNBytes(count);
+            return;
+        }
+        if (buffer == null) {
+            buffer = new byte[COPY_BUFFER];
+        }
+        while (count > 0) {
+            int chunk = (int) Math.min(count, buffer.length);
+            in.readFully(buffer, 0, chunk);
+            out.write(buffer, 0, chunk);
+            count -= chunk;
+        }
+    }
+}
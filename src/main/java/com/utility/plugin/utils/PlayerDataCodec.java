@@ -0,0 +1,377 @@
+package com.utility.plugin.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.utility.plugin.utils.NbtReader.TAG_BYTE;
+import static com.utility.plugin.utils.NbtReader.TAG_COMPOUND;
+import static com.utility.plugin.utils.NbtReader.TAG_END;
+import static com.utility.plugin.utils.NbtReader.TAG_INT;
+import static com.utility.plugin.utils.NbtReader.TAG_LIST;
+
+/**
+ * Reads and rewrites the items of a player data file, playerdata/&lt;uuid&gt;.dat.
+ * Items are handed over in the form ItemStack#serializeAsBytes uses: a gzip-compressed
+ * compound holding the item and the DataVersion it was saved with, so the server's data
+ * fixers can update items from older files when they are deserialized. Everything else
+ * in the file is streamed through unchanged when it is rewritten.
+ * Before 1.21.5 armour and off-hand are Inventory entries with slots 100-103 and -106;
+ * since then they live in the equipment compound. Both layouts are read, and a file
+ * is written back in the layout of its own data version.
+ * The streams passed in and out are uncompressed NBT.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PlayerDataCodec {
+    
+    /** Slots 0-35 are storage, 36-39 armour from feet to head, 40 the off-hand. */
+    public static final int INVENTORY_SIZE = 41;
+    public static final int ENDER_CHEST_SIZE = 27;
+    public static final int ARMOR_START = 36;
+    public static final int OFF_HAND = 40;
+    
+    // First data version (1.21.5) that keeps armour and off-hand in the equipment compound
+    static final int EQUIPMENT_DATA_VERSION = 4325;
+    
+    private static final int STORAGE_SIZE = 36;
+    private static final int LEGACY_ARMOR_SLOT = 100;
+    private static final int LEGACY_OFF_HAND_SLOT = -106;
+    private static final int NO_SLOT = Integer.MIN_VALUE;
+    // Equipment keys of inventory slots 36 to 40
+    private static final String[] EQUIPMENT_KEYS = {"feet", "legs", "chest", "head", "offhand"};
+    private static final String DATA_VERSION = "DataVersion";
+    private static final String INVENTORY = "Inventory";
+    private static final String ENDER_ITEMS = "EnderItems";
+    private static final String EQUIPMENT = "equipment";
+    private static final String SLOT = "Slot";
+    
+    private PlayerDataCodec() {
+    }
+    
+    /**
+     * Items read from a player data file.
+     */
+    public static final class Contents {
+        
+        private final int dataVersion;
+        private final byte[][] inventory;
+        private final byte[][] enderChest;
+        
+        private Contents(int dataVersion, byte[][] inventory, byte[][] enderChest) {
+            this.dataVersion = dataVersion;
+            this.inventory = inventory;
+            this.enderChest = enderChest;
+        }
+        
+        public int getDataVersion() {
+            return dataVersion;
+        }
+        
+        /**
+         * Gets the inventory items, indexed as described for {@link #INVENTORY_SIZE}.
+         * 
+         * @return The serialized items; null for empty slots
+         */
+        public byte[][] getInventory() {
+            return inventory;
+        }
+        
+        /**
+         * Gets the ender chest items.
+         * 
+         * @return The serialized items; null for empty slots
+         */
+        public byte[][] getEnderChest() {
+            return enderChest;
+        }
+    }
+    
+    /**
+     * Reads the inventory and ender chest of a player data file, skipping everything else.
+     * 
+     * @param in The uncompressed player data
+     * @return The items and the data version of the file
+     * @throws IOException If the data cannot be read
+     */
+    public static Contents read(InputStream in) throws IOException {
+        NbtReader nbt = new NbtReader(in);
+        nbt.readRootCompound();
+        
+        int dataVersion = 0;
+        byte[][] inventory = new byte[INVENTORY_SIZE][];
+        byte[][] enderChest = new byte[ENDER_CHEST_SIZE][];
+        byte type;
+        while ((type = nbt.readType()) != TAG_END) {
+            String name = nbt.readName();
+            if (type == TAG_INT && name.equals(DATA_VERSION)) {
+                dataVersion = nbt.readInt();
+            } else if (type == TAG_LIST && name.equals(INVENTORY)) {
+                readItemList(nbt, inventory, PlayerDataCodec::inventoryIndex);
+            } else if (type == TAG_LIST && name.equals(ENDER_ITEMS)) {
+                readItemList(nbt, enderChest, slot -> slot >= 0 && slot < ENDER_CHEST_SIZE ? slot : -1);
+            } else if (type == TAG_COMPOUND && name.equals(EQUIPMENT)) {
+                readEquipment(nbt, inventory);
+            } else {
+                nbt.skip(type);
+            }
+        }
+        
+        // The data version may come after the items, so they are only wrapped up now
+        return new Contents(dataVersion, wrapItems(inventory, dataVersion), wrapItems(enderChest, dataVersion));
+    }
+    
+    /**
+     * Copies a player data file, replacing its inventory, its ender chest or both.
+     * 
+     * @param original The uncompressed original player data
+     * @param target The output for the uncompressed new player data
+     * @param dataVersion The data version of the original file
+     * @param inventory The new inventory items as serialized by ItemStack#serializeAsBytes,
+     *                  or null to keep the inventory
+     * @param enderChest The new ender chest items, or null to keep the ender chest
+     * @throws IOException If the data cannot be read or written
+     */
+    public static void write(InputStream original, OutputStream target, int dataVersion,
+                             byte[][] inventory, byte[][] enderChest) throws IOException {
+        boolean equipmentLayout = dataVersion >= EQUIPMENT_DATA_VERSION;
+        NbtReader nbt = new NbtReader(original);
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeByte(TAG_COMPOUND);
+        out.writeUTF(nbt.readRootCompound());
+        
+        boolean inventoryWritten = inventory == null;
+        boolean equipmentWritten = inventory == null || !equipmentLayout;
+        boolean enderChestWritten = enderChest == null;
+        byte type;
+        while ((type = nbt.readType()) != TAG_END) {
+            String name = nbt.readName();
+            if (!inventoryWritten && name.equals(INVENTORY)) {
+                nbt.skip(type);
+                writeInventory(out, inventory, equipmentLayout);
+                inventoryWritten = true;
+            } else if (!equipmentWritten && type == TAG_COMPOUND && name.equals(EQUIPMENT)) {
+                writeEquipment(out, nbt, inventory);
+                equipmentWritten = true;
+            } else if (!enderChestWritten && name.equals(ENDER_ITEMS)) {
+                nbt.skip(type);
+                writeItemList(out, ENDER_ITEMS, enderChest, ENDER_CHEST_SIZE, IntUnaryOperator.identity());
+                enderChestWritten = true;
+            } else {
+                out.writeByte(type);
+                out.writeUTF(name);
+                nbt.copy(type, out);
+            }
+        }
+        
+        if (!inventoryWritten) {
+            writeInventory(out, inventory, equipmentLayout);
+        }
+        if (!equipmentWritten) {
+            writeEquipment(out, null, inventory);
+        }
+        if (!enderChestWritten) {
+            writeItemList(out, ENDER_ITEMS, enderChest, ENDER_CHEST_SIZE, IntUnaryOperator.identity());
+        }
+        out.writeByte(TAG_END);
+        out.flush();
+    }
+    
+    private static int inventoryIndex(int slot) {
+        if (slot >= 0 && slot < STORAGE_SIZE) {
+            return slot;
+        }
+        if (slot >= LEGACY_ARMOR_SLOT && slot < LEGACY_ARMOR_SLOT + 4) {
+            return ARMOR_START + slot - LEGACY_ARMOR_SLOT;
+        }
+        return slot == LEGACY_OFF_HAND_SLOT ? OFF_HAND : -1;
+    }
+    
+    private static int legacySlot(int index) {
+        if (index < STORAGE_SIZE) {
+            return index;
+        }
+        return index == OFF_HAND ? LEGACY_OFF_HAND_SLOT : LEGACY_ARMOR_SLOT + index - ARMOR_START;
+    }
+    
+    private static void readItemList(NbtReader nbt, byte[][] items, IntUnaryOperator slotToIndex) throws IOException {
+        byte elementType = nbt.readType();
+        int length = nbt.readLength();
+        for (int i = 0; i < length; i++) {
+            if (elementType != TAG_COMPOUND) {
+                nbt.skip(elementType);
+                continue;
+            }
+            ByteArrayOutputStream entries = new ByteArrayOutputStream(128);
+            int slot = readItem(nbt, new DataOutputStream(entries));
+            int index = slot == NO_SLOT ? -1 : slotToIndex.applyAsInt(slot);
+            if (index >= 0) {
+                items[index] = entries.toByteArray();
+            }
+        }
+    }
+    
+    private static void readEquipment(NbtReader nbt, byte[][] inventory) throws IOException {
+        byte type;
+        while ((type = nbt.readType()) != TAG_END) {
+            int index = equipmentIndex(nbt.readName());
+            if (type != TAG_COMPOUND || index < 0) {
+                nbt.skip(type);
+                continue;
+            }
+            ByteArrayOutputStream entries = new ByteArrayOutputStream(128);
+            readItem(nbt, new DataOutputStream(entries));
+            inventory[index] = entries.toByteArray();
+        }
+    }
+    
+    private static int equipmentIndex(String key) {
+        for (int i = 0; i < EQUIPMENT_KEYS.length; i++) {
+            if (EQUIPMENT_KEYS[i].equals(key)) {
+                return ARMOR_START + i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Copies the entries of an item compound without its slot and closing tag.
+     * 
+     * @return The slot of the item, or NO_SLOT if it has none
+     */
+    private static int readItem(NbtReader nbt, DataOutputStream entries) throws IOException {
+        int slot = NO_SLOT;
+        byte type;
+        while ((type = nbt.readType()) != TAG_END) {
+            String name = nbt.readName();
+            if (type == TAG_BYTE && name.equals(SLOT)) {
+                slot = nbt.readByte();
+            } else {
+                entries.writeByte(type);
+                entries.writeUTF(name);
+                nbt.copy(type, entries);
+            }
+        }
+        return slot;
+    }
+    
+    private static byte[][] wrapItems(byte[][] entries, int dataVersion) throws IOException {
+        byte[][] items = new byte[entries.length][];
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == null) {
+                continue;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(entries[i].length + 32);
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+                out.writeByte(TAG_COMPOUND);
+                out.writeUTF("");
+                out.write(entries[i]);
+                out.writeByte(TAG_INT);
+                out.writeUTF(DATA_VERSION);
+                out.writeInt(dataVersion);
+                out.writeByte(TAG_END);
+            }
+            items[i] = bytes.toByteArray();
+        }
+        return items;
+    }
+    
+    private static void writeInventory(DataOutputStream out, byte[][] inventory, boolean equipmentLayout) throws IOException {
+        if (equipmentLayout) {
+            writeItemList(out, INVENTORY, inventory, STORAGE_SIZE, IntUnaryOperator.identity());
+        } else {
+            writeItemList(out, INVENTORY, inventory, INVENTORY_SIZE, PlayerDataCodec::legacySlot);
+        }
+    }
+    
+    private static void writeItemList(DataOutputStream out, String name, byte[][] items, int count,
+                                      IntUnaryOperator indexToSlot) throws IOException {
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            if (items[i] != null) {
+                length++;
+            }
+        }
+        
+        out.writeByte(TAG_LIST);
+        out.writeUTF(name);
+        out.writeByte(TAG_COMPOUND);
+        out.writeInt(length);
+        for (int i = 0; i < count; i++) {
+            if (items[i] != null) {
+                writeItemEntries(out, items[i]);
+                out.writeByte(TAG_BYTE);
+                out.writeUTF(SLOT);
+                out.writeByte(indexToSlot.applyAsInt(i));
+                out.writeByte(TAG_END);
+            }
+        }
+    }
+    
+    /**
+     * Writes the equipment compound, keeping entries other than armour and off-hand.
+     * 
+     * @param nbt The reader positioned at the original compound's entries, or null if the file had none
+     */
+    private static void writeEquipment(DataOutputStream out, NbtReader nbt, byte[][] inventory) throws IOException {
+        boolean hasItems = false;
+        for (int i = ARMOR_START; i < INVENTORY_SIZE; i++) {
+            hasItems |= inventory[i] != null;
+        }
+        if (nbt == null && !hasItems) {
+            return;
+        }
+        
+        out.writeByte(TAG_COMPOUND);
+        out.writeUTF(EQUIPMENT);
+        if (nbt != null) {
+            byte type;
+            while ((type = nbt.readType()) != TAG_END) {
+                String name = nbt.readName();
+                if (equipmentIndex(name) >= 0) {
+                    nbt.skip(type);
+                } else {
+                    out.writeByte(type);
+                    out.writeUTF(name);
+                    nbt.copy(type, out);
+                }
+            }
+        }
+        for (int i = ARMOR_START; i < INVENTORY_SIZE; i++) {
+            if (inventory[i] != null) {
+                out.writeByte(TAG_COMPOUND);
+                out.writeUTF(EQUIPMENT_KEYS[i - ARMOR_START]);
+                writeItemEntries(out, inventory[i]);
+                out.writeByte(TAG_END);
+            }
+        }
+        out.writeByte(TAG_END);
+    }
+    
+    /**
+     * Writes the entries of a serialized item, leaving out its data version.
+     */
+    private static void writeItemEntries(DataOutputStream out, byte[] serialized) throws IOException {
+        NbtReader item = new NbtReader(new GZIPInputStream(new ByteArrayInputStream(serialized)));
+        item.readRootCompound();
+        byte type;
+        while ((type = item.readType()) != TAG_END) {
+            String name = item.readName();
+            if (type == TAG_INT && name.equals(DATA_VERSION)) {
+                item.skip(type);
+            } else {
+                out.writeByte(type);
+                out.writeUTF(name);
+                item.copy(type, out);
+            }
+        }
+    }
+}
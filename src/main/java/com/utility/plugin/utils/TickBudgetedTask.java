@@ -0,0 +1,156 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Repeating task that works through a list of items a slice at a time.
+ * Each tick it processes items until its nanosecond budget is used up, so a large
+ * job is spread over as many ticks as needed instead of stalling a single one.
+ * At least one item is processed per tick, so the task always makes progress.
+ * 
+ * @param <T> The type of the items
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TickBudgetedTask<T> {
+    
+    /**
+     * Receives the progress of the task.
+     */
+    public interface ProgressListener {
+        
+        void onProgress(int processed, int total);
+    }
+    
+    private final List<T> items;
+    private final Consumer<T> action;
+    private final long budgetNanos;
+    private final LongSupplier clock;
+    private ProgressListener progressListener;
+    private int progressInterval;
+    private Runnable completionHandler;
+    private BukkitTask task;
+    private int processed;
+    private int ticks;
+    
+    /**
+     * Constructs a new TickBudgetedTask instance.
+     * 
+     * @param items The items to process; references are dropped once processed
+     * @param action The work to do for each item, run on the main thread
+     * @param budgetNanos The time that may be spent per tick, in nanoseconds
+     */
+    public TickBudgetedTask(List<T> items, Consumer<T> action, long budgetNanos) {
+        this(items, action, budgetNanos, System::nanoTime);
+    }
+    
+    TickBudgetedTask(List<T> items, Consumer<T> action, long budgetNanos, LongSupplier clock) {
+        this.items = items;
+        this.action = action;
+        this.budgetNanos = budgetNanos;
+        this.clock = clock;
+    }
+    
+    /**
+     * Sets the listener told about the progress every given number of ticks.
+     * 
+     * @param intervalTicks The number of ticks between progress reports
+     * @param listener The progress listener
+     * @return This task
+     */
+    public TickBudgetedTask<T> onProgress(int intervalTicks, ProgressListener listener) {
+        this.progressInterval = Math.max(1, intervalTicks);
+        this.progressListener = listener;
+        return this;
+    }
+    
+    /**
+     * Sets the handler run once every item has been processed.
+     * 
+     * @param handler The completion handler
+     * @return This task
+     */
+    public TickBudgetedTask<T> onComplete(Runnable handler) {
+        this.completionHandler = handler;
+        return this;
+    }
+    
+    /**
+     * Starts processing on the next tick.
+     * 
+     * @param plugin The plugin owning the task
+     */
+    public void start(Plugin plugin) {
+        if (items.isEmpty()) {
+            complete();
+            return;
+        }
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+    
+    /**
+     * Processes items until the budget of this tick is used up.
+     * 
+     * @return true once every item has been processed
+     */
+    public boolean tick() {
+        if (processed == items.size()) {
+            return true;
+        }
+        
+        long deadline = clock.getAsLong() + budgetNanos;
+        do {
+            T item = items.get(processed);
+            items.set(processed, null);
+            processed++;
+            action.accept(item);
+        } while (processed < items.size() && clock.getAsLong() - deadline < 0);
+        ticks++;
+        
+        if (processed == items.size()) {
+            complete();
+            return true;
+        }
+        if (progressListener != null && ticks % progressInterval == 0) {
+            progressListener.onProgress(processed, items.size());
+        }
+        return false;
+    }
+    
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+    
+    public int getProcessed() {
+        return processed;
+    }
+    
+    public int getTotal() {
+        return items.size();
+    }
+    
+    /**
+     * Gets the number of ticks the task has run for.
+     * 
+     * @return The number of ticks
+     */
+    public int getTicks() {
+        return ticks;
+    }
+    
+    private void complete() {
+        cancel();
+        if (completionHandler != null) {
+            completionHandler.run();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.utility.plugin.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel driven by server ticks.
+ * All timeouts share a single ring of slots; scheduling and cancelling are O(1)
+ * and advancing the wheel only touches the timeouts hashed into the current slot.
+ * Not thread-safe: schedule, cancel and tick must all run on the main thread.
+ * 
+ * @param <T> The type of payload carried by each timeout
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TimingWheel<T> {
+    
+    private final Timeout<T>[] heads;
+    private final int mask;
+    private final Consumer<T> onExpire;
+    private long currentTick;
+    private int size;
+    
+    /**
+     * Constructs a new TimingWheel instance.
+     * 
+     * @param slots The number of slots, rounded up to a power of two
+     * @param onExpire Callback invoked on the main thread for every expired payload
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int slots, Consumer<T> onExpire) {
+        int capacity = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.heads = (Timeout<T>[]) new Timeout[capacity];
+        this.mask = capacity - 1;
+        this.onExpire = onExpire;
+    }
+    
+    /**
+     * Schedules a payload to expire after the given number of ticks.
+     * 
+     * @param payload The payload handed to the expiry callback
+     * @param delayTicks The delay in ticks, at least one
+     * @return The handle used to cancel the timeout
+     */
+    public Timeout<T> schedule(T payload, long delayTicks) {
+        long delay = Math.max(1L, delayTicks);
+        Timeout<T> timeout = new Timeout<>(this, payload);
+        timeout.slot = (int) ((currentTick + delay) & mask);
+        timeout.rounds = (delay - 1) / heads.length;
+        link(timeout);
+        return timeout;
+    }
+    
+    /**
+     * Advances the wheel by one tick and expires every timeout that is due.
+     */
+    public void tick() {
+        currentTick++;
+        int slot = (int) (currentTick & mask);
+        
+        // Detach due timeouts first so callbacks may freely schedule or cancel
+        Timeout<T> expired = null;
+        Timeout<T> timeout = heads[slot];
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            if (timeout.rounds <= 0) {
+                unlink(timeout);
+                timeout.next = expired;
+                expired = timeout;
+            } else {
+                timeout.rounds--;
+            }
+            timeout = next;
+        }
+        
+        while (expired != null) {
+            Timeout<T> next = expired.next;
+            expired.next = null;
+            onExpire.accept(expired.payload);
+            expired = next;
+        }
+    }
+    
+    /**
+     * Gets the number of pending timeouts.
+     * 
+     * @return The number of pending timeouts
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Gets the number of ticks the wheel has advanced.
+     * 
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    /**
+     * Cancels all pending timeouts without invoking the expiry callback.
+     */
+    public void clear() {
+        for (int i = 0; i < heads.length; i++) {
+            Timeout<T> timeout = heads[i];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.wheel = null;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout = next;
+            }
+            heads[i] = null;
+        }
+        size = 0;
+    }
+    
+    private void link(Timeout<T> timeout) {
+        Timeout<T> head = heads[timeout.slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        heads[timeout.slot] = timeout;
+        size++;
+    }
+    
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev == null) {
+            heads[timeout.slot] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        size--;
+    }
+    
+    /**
+     * Handle to a scheduled timeout.
+     * 
+     * @param <T> The type of payload carried by the timeout
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private TimingWheel<T> wheel;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int slot;
+        private long rounds;
+        
+        private Timeout(TimingWheel<T> wheel, T payload) {
+            this.wheel = wheel;
+            this.payload = payload;
+        }
+        
+        /**
+         * Gets the payload of this timeout.
+         * 
+         * @return The payload
+         */
+        public T getPayload() {
+            return payload;
+        }
+        
+        /**
+         * Checks whether this timeout is still waiting to expire.
+         * 
+         * @return true if the timeout has neither expired nor been cancelled
+         */
+        public boolean isPending() {
+            return wheel != null;
+        }
+        
+        /**
+         * Cancels this timeout. Does nothing if it already expired or was cancelled.
+         * 
+         * @return true if the timeout was pending and is now cancelled
+         */
+        public boolean cancel() {
+            if (wheel == null) {
+                return false;
+            }
+            wheel.unlink(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.utility.plugin.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fixed-size ring of trace records for events on hot paths, such as cancelled damage.
+ * Each record is four longs in a single preallocated array: the event type and detail,
+ * the two halves of the player's UUID and the {@link System#nanoTime()} of the event.
+ * Recording an event allocates nothing and costs a few array stores, whether or not
+ * anyone ever reads the trace; once the ring is full the oldest records are overwritten.
+ * Records are only turned into text when a {@link Snapshot} is written out.
+ * Not thread-safe: record and take snapshots on the main thread only.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TraceBuffer {
+    
+    private static final int RECORD_LONGS = 4;
+    private static final long DETAIL_MASK = 0xFFFFFFFFL;
+    
+    private final long[] records;
+    private final int mask;
+    private long written;
+    
+    /**
+     * Constructs a new TraceBuffer instance.
+     * 
+     * @param capacity The number of records kept, rounded up to a power of two
+     */
+    public TraceBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.records = new long[size * RECORD_LONGS];
+        this.mask = size - 1;
+    }
+    
+    /**
+     * Records an event of a player.
+     * 
+     * @param event The event type
+     * @param playerId The UUID of the player
+     * @param detail A type-specific value, such as a damage cause ordinal
+     */
+    public void record(TraceEvent event, UUID playerId, int detail) {
+        int base = (int) (written++ & mask) * RECORD_LONGS;
+        records[base] = ((long) event.ordinal() << 32) | (detail & DETAIL_MASK);
+        records[base + 1] = playerId.getMostSignificantBits();
+        records[base + 2] = playerId.getLeastSignificantBits();
+        records[base + 3] = System.nanoTime();
+    }
+    
+    /**
+     * Copies the records currently held, oldest first, so they can be rendered off the main thread.
+     * 
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        int count = (int) Math.min(written, mask + 1L);
+        long[] copy = new long[count * RECORD_LONGS];
+        int start = (int) ((written - count) & mask) * RECORD_LONGS;
+        int firstPart = Math.min(copy.length, records.length - start);
+        System.arraycopy(records, start, copy, 0, firstPart);
+        System.arraycopy(records, 0, copy, firstPart, copy.length - firstPart);
+        return new Snapshot(copy, written - count, System.currentTimeMillis(), System.nanoTime());
+    }
+    
+    public int getCapacity() {
+        return mask + 1;
+    }
+    
+    /**
+     * Gets the number of events recorded since the buffer was created, including overwritten ones.
+     * 
+     * @return The number of recorded events
+     */
+    public long getRecordedCount() {
+        return written;
+    }
+    
+    /**
+     * Records copied out of a trace buffer at one point in time.
+     */
+    public static final class Snapshot {
+        
+        private final long[] records;
+        private final long dropped;
+        private final long takenMillis;
+        private final long takenNanos;
+        
+        private Snapshot(long[] records, long dropped, long takenMillis, long takenNanos) {
+            this.records = records;
+            this.dropped = dropped;
+            this.takenMillis = takenMillis;
+            this.takenNanos = takenNanos;
+        }
+        
+        public int size() {
+            return records.length / RECORD_LONGS;
+        }
+        
+        /**
+         * Gets the number of records overwritten before the snapshot was taken.
+         * 
+         * @return The number of dropped records
+         */
+        public long getDroppedCount() {
+            return dropped;
+        }
+        
+        /**
+         * Renders the records, one line each: the wall-clock time, the event type,
+         * the player's UUID and the detail.
+         * 
+         * @param out The destination
+         * @throws IOException If the destination cannot be written
+         */
+        public void writeTo(Appendable out) throws IOException {
+            out.append("# ").append(String.valueOf(size())).append(" records, ")
+                    .append(String.valueOf(dropped)).append(" older records overwritten\n");
+            for (int base = 0; base < records.length; base += RECORD_LONGS) {
+                TraceEvent event = TraceEvent.fromOrdinal((int) (records[base] >>> 32));
+                int detail = (int) records[base];
+                long millis = takenMillis - (takenNanos - records[base + 3]) / 1_000_000L;
+                
+                out.append(Instant.ofEpochMilli(millis).toString()).append(' ')
+                        .append(event != null ? event.name() : "UNKNOWN").append(' ')
+                        .append(new UUID(records[base + 1], records[base + 2]).toString());
+                String formatted = event != null ? event.formatDetail(detail) : String.valueOf(detail);
+                if (!formatted.isEmpty()) {
+                    out.append(' ').append(formatted);
+                }
+                out.append('\n');
+            }
+        }
+        
+        /**
+         * Renders the records to a file, creating its directory if needed.
+         * 
+         * @param file The file to write
+         * @throws IOException If the file cannot be written
+         */
+        public void writeTo(Path file) throws IOException {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writeTo(writer);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+/**
+ * Types of events recorded in the {@link TraceBuffer}.
+ * The ordinal is stored in each record, so new types must be added at the end.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TraceEvent {
+    
+    /** Damage to a god mode player was cancelled; the detail is the damage cause ordinal. */
+    GOD_DAMAGE_CANCELLED,
+    
+    /** Hunger loss of a god mode player was cancelled; the detail is the food level it would have set. */
+    GOD_HUNGER_CANCELLED,
+    
+    /** A god mode player left and was unloaded from memory. */
+    GOD_UNLOADED,
+    
+    /** God mode was restored from persistent data for a joining player. */
+    GOD_RESTORED,
+    
+    /** Item damage of a player with auto-repair was cancelled; the detail is the damage. */
+    ITEM_DAMAGE_ABSORBED,
+    
+    /** Auto-repair ran a full repair; the detail is the number of items repaired. */
+    AUTO_REPAIR;
+    
+    private static final TraceEvent[] VALUES = values();
+    
+    /**
+     * Gets the event type stored in a record.
+     * 
+     * @param ordinal The stored ordinal
+     * @return The event type, or null if there is no type with that ordinal
+     */
+    static TraceEvent fromOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+    
+    /**
+     * Renders the detail value of a record of this type.
+     * 
+     * @param detail The stored detail
+     * @return The readable detail, or an empty string if this type has none
+     */
+    public String formatDetail(int detail) {
+        switch (this) {
+            case GOD_DAMAGE_CANCELLED:
+                DamageCause[] causes = DamageCause.values();
+                return detail >= 0 && detail < causes.length ? causes[detail].name() : "cause=" + detail;
+            case GOD_HUNGER_CANCELLED:
+                return "food=" + detail;
+            case ITEM_DAMAGE_ABSORBED:
+                return "damage=" + detail;
+            case AUTO_REPAIR:
+                return "items=" + detail;
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.utility.plugin.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ClusterMessenger class.
+ * Runs several nodes over a LoopbackTransport network to test batching,
+ * coalescing and routing without a proxy.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class ClusterMessengerTest {
+    
+    private final Logger logger = Logger.getLogger(ClusterMessengerTest.class.getName());
+    private LoopbackTransport.Network network;
+    private List<ClusterMessage> receivedByLobby;
+    private List<ClusterMessage> receivedBySurvival;
+    private List<byte[]> framesToSurvival;
+    private ClusterMessenger lobby;
+    private ClusterMessenger survival;
+    private ClusterMessenger creative;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        network = new LoopbackTransport.Network();
+        receivedByLobby = new ArrayList<>();
+        receivedBySurvival = new ArrayList<>();
+        framesToSurvival = new ArrayList<>();
+        
+        lobby = new ClusterMessenger(new LoopbackTransport("lobby", network), receivedByLobby::add, logger);
+        survival = new ClusterMessenger(new LoopbackTransport("survival", network) {
+            @Override
+            public void open(Consumer<byte[]> receiver) {
+                super.open(frame -> {
+                    framesToSurvival.add(frame);
+                    receiver.accept(frame);
+                });
+            }
+        }, receivedBySurvival::add, logger);
+        creative = new ClusterMessenger(new LoopbackTransport("creative", network), message -> { }, logger);
+        lobby.open();
+        survival.open();
+        creative.open();
+    }
+    
+    /**
+     * Test that messages are only sent when the tick is flushed.
+     */
+    @Test
+    void testSend_QueuedUntilFlush() {
+        // Arrange
+        lobby.send(ClusterTransport.ALL, ClusterMessage.request(UUID.randomUUID(), "Alice", "Bob"));
+        
+        // Act
+        int beforeFlush = receivedBySurvival.size();
+        lobby.flush();
+        
+        // Assert
+        assertEquals(0, beforeFlush);
+        assertEquals(1, receivedBySurvival.size());
+        assertEquals(1, creative.getMessagesReceived());
+        assertEquals(0, lobby.getMessagesReceived());
+    }
+    
+    /**
+     * Test that repeated requests of one sender within a tick collapse into the latest one.
+     */
+    @Test
+    void testFlush_CoalescesRequestsPerSender() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            lobby.send(ClusterTransport.ALL, ClusterMessage.request(alice, "Alice", "Bob" + i));
+        }
+        lobby.send(ClusterTransport.ALL, ClusterMessage.request(carol, "Carol", "Dave"));
+        
+        // Act
+        lobby.flush();
+        
+        // Assert
+        assertEquals(1, framesToSurvival.size());
+        assertEquals(2, receivedBySurvival.size());
+        assertEquals("Bob49", receivedBySurvival.get(0).getTargetName());
+        assertEquals("Dave", receivedBySurvival.get(1).getTargetName());
+        assertEquals(49, lobby.getMessagesCoalesced());
+    }
+    
+    /**
+     * Test that a reply addressed to one node carries every field and its origin.
+     */
+    @Test
+    void testFlush_DirectedReplyRoundTrip() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        lobby.send("survival", ClusterMessage.accept(alice, bob, "Bob"));
+        lobby.send("survival", ClusterMessage.deny(UUID.randomUUID(), bob, "Bob"));
+        
+        // Act
+        lobby.flush();
+        
+        // Assert
+        assertEquals(1, framesToSurvival.size());
+        assertEquals(2, receivedBySurvival.size());
+        ClusterMessage accept = receivedBySurvival.get(0);
+        assertEquals(ClusterMessage.Type.ACCEPT, accept.getType());
+        assertEquals(alice, accept.getSenderId());
+        assertNull(accept.getSenderName());
+        assertEquals(bob, accept.getTargetId());
+        assertEquals("Bob", accept.getTargetName());
+        assertEquals("lobby", accept.getOriginNode());
+        assertEquals(0, creative.getMessagesReceived());
+    }
+    
+    /**
+     * Test that a large tick is split into frames that each fit a plugin message.
+     */
+    @Test
+    void testFlush_SplitsOversizedBatch() {
+        // Arrange
+        for (int i = 0; i < 2_000; i++) {
+            lobby.send("survival", ClusterMessage.request(UUID.randomUUID(), "Sender" + i, "Target" + i));
+        }
+        
+        // Act
+        lobby.flush();
+        
+        // Assert
+        assertTrue(framesToSurvival.size() > 1);
+        for (byte[] frame : framesToSurvival) {
+            assertTrue(frame.length <= ClusterMessenger.MAX_FRAME_BYTES);
+        }
+        assertEquals(2_000, receivedBySurvival.size());
+        assertEquals("Target1999", receivedBySurvival.get(1_999).getTargetName());
+        assertEquals(framesToSurvival.size(), lobby.getFramesSent());
+    }
+    
+    /**
+     * Test that a malformed frame is dropped without reaching the handler.
+     */
+    @Test
+    void testReceive_MalformedFrameDropped() {
+        // Act
+        survival.receive(new byte[] {42, 0});
+        
+        // Assert
+        assertTrue(receivedBySurvival.isEmpty());
+        assertTrue(receivedByLobby.isEmpty());
+    }
+}
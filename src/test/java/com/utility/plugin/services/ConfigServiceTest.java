@@ -1,12 +1,18 @@
 package com.utility.plugin.services;
 
 import com.utility.plugin.UtilityPlugin;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -14,12 +20,16 @@ import static org.mockito.Mockito.*;
 /**
  * Unit tests for the ConfigService class.
  * Tests configuration loading, message retrieval, and settings access.
+ * Settings are stubbed before the service is created, since they are read once into
+ * the configuration snapshot. Stubbing is lenient because building the snapshot reads every
+ * setting, while each test only stubs the keys it is about.
  * 
  * @author UtilityPlugin Team
  * @version 1.0.0
  * @since 1.0.0
  */
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class ConfigServiceTest {
     
     @Mock
@@ -28,6 +38,9 @@ class ConfigServiceTest {
     @Mock
     private FileConfiguration config;
     
+    @Mock
+    private ConfigurationSection messages;
+    
     private ConfigService configService;
     
     /**
@@ -37,9 +50,6 @@ class ConfigServiceTest {
     void setUp() {
         // Mock plugin behavior
         when(plugin.getConfig()).thenReturn(config);
-        
-        // Create ConfigService instance
-        configService = new ConfigService(plugin);
     }
     
     /**
@@ -47,11 +57,36 @@ class ConfigServiceTest {
      */
     @Test
     void testLoadConfig() {
+        // Act
+        loadConfig();
+        
         // Verify that saveDefaultConfig and reloadConfig are called
         verify(plugin).saveDefaultConfig();
         verify(plugin).reloadConfig();
     }
     
+    /**
+     * Test that settings are served from the snapshot without touching the configuration.
+     */
+    @Test
+    void testGetters_ReadSnapshotOnly() {
+        // Arrange
+        when(config.getInt("tpa.timeout", 60)).thenReturn(45);
+        stubMessages("test", "Test message");
+        loadConfig();
+        clearInvocations(config, messages);
+        
+        // Act
+        int timeout = configService.getTPATimeout();
+        String message = configService.getMessage("test");
+        
+        // Assert
+        assertEquals(45, timeout);
+        assertEquals("Test message", message);
+        assertSame(configService.getSnapshot(), configService.getSnapshot());
+        verifyNoInteractions(config, messages);
+    }
+    
     /**
      * Test message retrieval with valid path.
      */
@@ -59,14 +94,15 @@ class ConfigServiceTest {
     void testGetMessage_ValidPath() {
         // Arrange
         String expectedMessage = "Test message";
-        when(config.getString("messages.test", "Message not found: test")).thenReturn(expectedMessage);
+        stubMessages("test", expectedMessage);
+        loadConfig();
         
         // Act
         String result = configService.getMessage("test");
         
         // Assert
         assertEquals(expectedMessage, result);
-        verify(config).getString("messages.test", "Message not found: test");
+        verify(messages).getString("test");
     }
     
     /**
@@ -76,7 +112,8 @@ class ConfigServiceTest {
     void testGetMessage_InvalidPath() {
         // Arrange
         String expectedDefault = "Message not found: invalid";
-        when(config.getString("messages.invalid", expectedDefault)).thenReturn(expectedDefault);
+        stubMessages("test", "Test message");
+        loadConfig();
         
         // Act
         String result = configService.getMessage("invalid");
@@ -93,7 +130,8 @@ class ConfigServiceTest {
         // Arrange
         String template = "Hello {name}, you are {age} years old!";
         String expected = "Hello John, you are 25 years old!";
-        when(config.getString("messages.greeting", "Message not found: greeting")).thenReturn(template);
+        stubMessages("greeting", template);
+        loadConfig();
         
         // Act
         String result = configService.getMessage("greeting", "name", "John", "age", "25");
@@ -110,6 +148,7 @@ class ConfigServiceTest {
         // Arrange
         String expectedPrefix = "&8[&bUtilityPlugin&8] &r";
         when(config.getString("prefix", "&8[&bUtilityPlugin&8] &r")).thenReturn(expectedPrefix);
+        loadConfig();
         
         // Act
         String result = configService.getPrefix();
@@ -126,6 +165,7 @@ class ConfigServiceTest {
         // Arrange
         int expectedTimeout = 60;
         when(config.getInt("tpa.timeout", 60)).thenReturn(expectedTimeout);
+        loadConfig();
         
         // Act
         int result = configService.getTPATimeout();
@@ -143,6 +183,7 @@ class ConfigServiceTest {
         // Arrange
         int expectedCooldown = 30;
         when(config.getInt("tpa.cooldown", 30)).thenReturn(expectedCooldown);
+        loadConfig();
         
         // Act
         int result = configService.getTPACooldown();
@@ -159,6 +200,7 @@ class ConfigServiceTest {
     void testIsGodHungerEnabled_True() {
         // Arrange
         when(config.getBoolean("god.hunger", true)).thenReturn(true);
+        loadConfig();
         
         // Act
         boolean result = configService.isGodHungerEnabled();
@@ -175,6 +217,7 @@ class ConfigServiceTest {
     void testIsGodHungerEnabled_False() {
         // Arrange
         when(config.getBoolean("god.hunger", true)).thenReturn(false);
+        loadConfig();
         
         // Act
         boolean result = configService.isGodHungerEnabled();
@@ -190,6 +233,7 @@ class ConfigServiceTest {
     void testIsGodFallDamageEnabled() {
         // Arrange
         when(config.getBoolean("god.fall-damage", true)).thenReturn(true);
+        loadConfig();
         
         // Act
         boolean result = configService.isGodFallDamageEnabled();
@@ -206,7 +250,8 @@ class ConfigServiceTest {
     void testGetMessage_OddReplacements() {
         // Arrange
         String template = "Hello {name}!";
-        when(config.getString("messages.odd", "Message not found: odd")).thenReturn(template);
+        stubMessages("odd", template);
+        loadConfig();
         
         // Act
         String result = configService.getMessage("odd", "name", "John", "extra");
@@ -222,7 +267,8 @@ class ConfigServiceTest {
     void testGetMessage_EmptyReplacements() {
         // Arrange
         String template = "Simple message";
-        when(config.getString("messages.simple", "Message not found: simple")).thenReturn(template);
+        stubMessages("simple", template);
+        loadConfig();
         
         // Act
         String result = configService.getMessage("simple");
@@ -230,4 +276,18 @@ class ConfigServiceTest {
         // Assert
         assertEquals(template, result);
     }
-} 
\ No newline at end of file
+    
+    private void loadConfig() {
+        configService = new ConfigService(plugin);
+    }
+    
+    private void stubMessages(String... pathsAndMessages) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (int i = 0; i < pathsAndMessages.length; i += 2) {
+            paths.add(pathsAndMessages[i]);
+            when(messages.getString(pathsAndMessages[i])).thenReturn(pathsAndMessages[i + 1]);
+        }
+        when(messages.getKeys(false)).thenReturn(paths);
+        when(config.getConfigurationSection("messages")).thenReturn(messages);
+    }
+}
@@ -0,0 +1,276 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.listeners.GodModeListener;
+import com.utility.plugin.models.GodModePolicy;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the GodModeService class.
+ * Tests toggling, membership, policy resolution, restoring on join and registering the
+ * listener only while needed, and
+ * benchmarks the damage-event check with 500 god players against an empty set and
+ * against the old list scan.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class GodModeServiceTest {
+    
+    private static final int GOD_PLAYERS = 500;
+    private static final int DAMAGED_PLAYERS = 1024;
+    
+    private UtilityPlugin plugin;
+    private PluginManager pluginManager;
+    private ConfigService configService;
+    private Map<String, GodModePolicy> policies;
+    private GodModeService godModeService;
+    private long hits;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        plugin = mock(UtilityPlugin.class);
+        // NamespacedKey takes its namespace from the plugin name
+        when(plugin.getName()).thenReturn("UtilityPlugin");
+        Server server = mock(Server.class);
+        pluginManager = mock(PluginManager.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getPluginManager()).thenReturn(pluginManager);
+        
+        policies = new LinkedHashMap<>();
+        policies.put("fall-only", GodModePolicy.compile("fall-only", Collections.singletonList("FALL")));
+        policies.put(GodModePolicy.DEFAULT, GodModePolicy.compile(GodModePolicy.DEFAULT, Collections.singletonList("ALL")));
+        configService = mock(ConfigService.class);
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(configService.getGodPolicies()).thenReturn(policies);
+        
+        godModeService = new GodModeService(plugin);
+    }
+    
+    /**
+     * Test that enabling god mode twice keeps a single entry.
+     */
+    @Test
+    void testEnable_NoDuplicates() {
+        // Arrange
+        Player player = mockPlayer(UUID.randomUUID());
+        
+        // Act
+        boolean first = godModeService.enable(player);
+        boolean second = godModeService.enable(player);
+        
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, godModeService.getGodModeCount());
+        assertTrue(godModeService.disable(player));
+        assertFalse(godModeService.isGodMode(player));
+    }
+    
+    /**
+     * Test that toggling switches god mode on and off.
+     */
+    @Test
+    void testToggle() {
+        // Arrange
+        Player player = mockPlayer(UUID.randomUUID());
+        
+        // Act & Assert
+        assertTrue(godModeService.toggle(player));
+        assertTrue(godModeService.isGodMode(player));
+        assertFalse(godModeService.toggle(player));
+        assertFalse(godModeService.isGodMode(player));
+    }
+    
+    /**
+     * Test that a player given a policy permission only has those causes blocked.
+     */
+    @Test
+    void testPolicy_ResolvedFromExplicitPermission() {
+        // Arrange
+        Player fallOnly = mockPlayer(UUID.randomUUID());
+        when(fallOnly.isPermissionSet("utility.god.policy.fall-only")).thenReturn(true);
+        when(fallOnly.hasPermission("utility.god.policy.fall-only")).thenReturn(true);
+        Player operator = mockPlayer(UUID.randomUUID());
+        when(operator.hasPermission(anyString())).thenReturn(true);
+        
+        // Act
+        godModeService.enable(fallOnly);
+        godModeService.enable(operator);
+        
+        // Assert
+        assertTrue(godModeService.getPolicy(fallOnly).blocks(DamageCause.FALL));
+        assertFalse(godModeService.getPolicy(fallOnly).blocks(DamageCause.ENTITY_ATTACK));
+        assertEquals(GodModePolicy.DEFAULT, godModeService.getPolicy(operator).getName());
+        assertTrue(godModeService.getPolicy(operator).blocks(DamageCause.ENTITY_ATTACK));
+    }
+    
+    /**
+     * Test that a reload falls back to the default policy when a player's policy is removed.
+     */
+    @Test
+    void testRefreshPolicies_RemovedPolicyFallsBackToDefault() {
+        // Arrange
+        Player player = mockPlayer(UUID.randomUUID());
+        when(player.isPermissionSet("utility.god.policy.fall-only")).thenReturn(true);
+        when(player.hasPermission("utility.god.policy.fall-only")).thenReturn(true);
+        godModeService.enable(player);
+        
+        // Act
+        policies.remove("fall-only");
+        godModeService.refreshPolicies();
+        
+        // Assert
+        assertEquals(GodModePolicy.DEFAULT, godModeService.getPolicy(player).getName());
+        assertTrue(godModeService.getPolicy(player).blocks(DamageCause.ENTITY_ATTACK));
+    }
+    
+    /**
+     * Test that a player leaving keeps god mode stored and gets it back on join.
+     */
+    @Test
+    void testUnloadAndRestore_KeepsStoredFlag() {
+        // Arrange
+        Player player = mockPlayer(UUID.randomUUID());
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        godModeService.enable(player);
+        
+        // Act
+        boolean unloaded = godModeService.unload(player);
+        int countWhileOffline = godModeService.getGodModeCount();
+        when(container.has(any(NamespacedKey.class), eq(PersistentDataType.BYTE))).thenReturn(true);
+        boolean restored = godModeService.restore(player);
+        
+        // Assert
+        assertTrue(unloaded);
+        assertEquals(0, countWhileOffline);
+        assertTrue(restored);
+        assertTrue(godModeService.isGodMode(player));
+        verify(container).set(any(NamespacedKey.class), eq(PersistentDataType.BYTE), eq((byte) 1));
+        verify(container, never()).remove(any(NamespacedKey.class));
+    }
+    
+    /**
+     * Test that a joining player without stored god mode is not loaded.
+     */
+    @Test
+    void testRestore_WithoutStoredFlag() {
+        // Arrange
+        Player player = mockPlayer(UUID.randomUUID());
+        
+        // Act
+        boolean restored = godModeService.restore(player);
+        
+        // Assert
+        assertFalse(restored);
+        assertFalse(godModeService.isGodMode(player));
+        assertFalse(godModeService.isListening());
+    }
+    
+    /**
+     * Test that the listener is registered for the first god player and dropped after the last.
+     */
+    @Test
+    void testListener_RegisteredOnlyWhileNeeded() {
+        // Arrange
+        Player first = mockPlayer(UUID.randomUUID());
+        Player second = mockPlayer(UUID.randomUUID());
+        
+        // Act
+        boolean listeningBefore = godModeService.isListening();
+        godModeService.enable(first);
+        godModeService.enable(second);
+        godModeService.disable(first);
+        boolean listeningWithOne = godModeService.isListening();
+        godModeService.disable(second);
+        
+        // Assert
+        assertFalse(listeningBefore);
+        assertTrue(listeningWithOne);
+        assertFalse(godModeService.isListening());
+        verify(pluginManager, times(1)).registerEvents(any(GodModeListener.class), eq(plugin));
+    }
+    
+    /**
+     * Benchmark of the god-mode check made for every player damage event.
+     */
+    @Test
+    void testBenchmark_DamageCheckWithFiveHundredGodPlayers() {
+        // Arrange
+        int iterations = 2_000_000;
+        UUID[] damaged = new UUID[DAMAGED_PLAYERS];
+        for (int i = 0; i < damaged.length; i++) {
+            damaged[i] = UUID.randomUUID();
+        }
+        GodModeService empty = new GodModeService(plugin);
+        List<UUID> legacyList = new ArrayList<>();
+        for (int i = 0; i < GOD_PLAYERS; i++) {
+            UUID playerId = UUID.randomUUID();
+            godModeService.enable(mockPlayer(playerId));
+            legacyList.add(playerId);
+        }
+        // Half of the damage events hit god players
+        for (int i = 0; i < damaged.length; i += 2) {
+            damaged[i] = legacyList.get(i % GOD_PLAYERS);
+        }
+        long warmup = 0;
+        for (int i = 0; i < 200_000; i++) {
+            UUID playerId = damaged[i & (DAMAGED_PLAYERS - 1)];
+            warmup += (empty.isGodMode(playerId) ? 1 : 0) + (godModeService.isGodMode(playerId) ? 1 : 0);
+            warmup += legacyList.contains(playerId) ? 1 : 0;
+        }
+        
+        // Act
+        long emptyNanos = time(iterations, damaged, empty::isGodMode);
+        long setNanos = time(iterations, damaged, godModeService::isGodMode);
+        long legacyNanos = time(iterations / 100, damaged, legacyList::contains) * 100;
+        
+        // Assert
+        System.out.printf("Empty set: %.1f ns/event%n", (double) emptyNanos / iterations);
+        System.out.printf("500 god players: %.1f ns/event%n", (double) setNanos / iterations);
+        System.out.printf("500 god players, old list scan: %.1f ns/event (%.0fx slower, checksum %d)%n",
+                (double) legacyNanos / iterations, (double) legacyNanos / setNanos, warmup + hits);
+        assertTrue(setNanos < legacyNanos, "Set lookup should beat the list scan");
+    }
+    
+    private long time(int iterations, UUID[] damaged, Predicate<UUID> check) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (check.test(damaged[i & (DAMAGED_PLAYERS - 1)])) {
+                hits++;
+            }
+        }
+        return System.nanoTime() - start;
+    }
+    
+    private static Player mockPlayer(UUID playerId) {
+        Player player = mock(Player.class);
+        PersistentDataContainer container = mock(PersistentDataContainer.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getPersistentDataContainer()).thenReturn(container);
+        return player;
+    }
+}
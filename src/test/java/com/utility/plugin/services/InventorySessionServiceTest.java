@@ -0,0 +1,241 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.gui.InventorySession;
+import com.utility.plugin.listeners.InventorySessionListener;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the InventorySessionService class.
+ * Tests that viewers of the same player share one session, that a sync only touches
+ * the slots that changed, that clicks act on the player's current items, and that the
+ * session is torn down with its last viewer.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class InventorySessionServiceTest {
+    
+    private static final int VIEW_SIZE = 45;
+    private static final int INVENTORY_SIZE = 41;
+    
+    private final ItemStack[] viewItems = new ItemStack[VIEW_SIZE];
+    private final ItemStack[] targetItems = new ItemStack[INVENTORY_SIZE];
+    private MockedStatic<Bukkit> bukkit;
+    private MockedConstruction<ItemStack> fillers;
+    private PluginManager pluginManager;
+    private BukkitTask syncTask;
+    private InventorySessionService sessionService;
+    private Inventory view;
+    private Player target;
+    private PlayerInventory targetInventory;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        UtilityPlugin plugin = mock(UtilityPlugin.class);
+        Server server = mock(Server.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        pluginManager = mock(PluginManager.class);
+        syncTask = mock(BukkitTask.class);
+        target = mock(Player.class);
+        targetInventory = mock(PlayerInventory.class);
+        view = mock(Inventory.class);
+        UUID targetId = UUID.randomUUID();
+        
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(server.getPluginManager()).thenReturn(pluginManager);
+        when(server.getPlayer(targetId)).thenReturn(target);
+        when(scheduler.runTaskTimer(any(), any(Runnable.class), anyLong(), anyLong())).thenReturn(syncTask);
+        when(target.getUniqueId()).thenReturn(targetId);
+        when(target.getName()).thenReturn("Target");
+        when(target.getInventory()).thenReturn(targetInventory);
+        when(targetInventory.getContents()).thenAnswer(invocation -> targetItems.clone());
+        when(targetInventory.getItem(anyInt())).thenAnswer(invocation -> targetItems[(int) invocation.getArgument(0)]);
+        doAnswer(invocation -> {
+            targetItems[(int) invocation.getArgument(0)] = invocation.getArgument(1);
+            return null;
+        }).when(targetInventory).setItem(anyInt(), any());
+        
+        when(view.getSize()).thenReturn(VIEW_SIZE);
+        when(view.getItem(anyInt())).thenAnswer(invocation -> viewItems[(int) invocation.getArgument(0)]);
+        doAnswer(invocation -> {
+            viewItems[(int) invocation.getArgument(0)] = invocation.getArgument(1);
+            return null;
+        }).when(view).setItem(anyInt(), any());
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(() -> Bukkit.createInventory(any(InventoryHolder.class), eq(VIEW_SIZE), anyString())).thenReturn(view);
+        // Filler panes are real items, which need a running server
+        fillers = mockConstruction(ItemStack.class);
+        
+        sessionService = new InventorySessionService(plugin);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        fillers.close();
+        bukkit.close();
+    }
+    
+    /**
+     * Test that everyone viewing the same player joins one session.
+     */
+    @Test
+    void testOpen_ViewersShareOneSession() {
+        // Arrange
+        Player first = viewer();
+        Player second = viewer();
+        
+        // Act
+        sessionService.open(first, target);
+        sessionService.open(second, target);
+        
+        // Assert
+        assertEquals(1, sessionService.getSessionCount());
+        verify(first).openInventory(view);
+        verify(second).openInventory(view);
+        verify(pluginManager, times(1)).registerEvents(any(InventorySessionListener.class), any());
+    }
+    
+    /**
+     * Test that a player viewing themselves gets their own inventory instead of a session.
+     */
+    @Test
+    void testOpen_SelfViewOpensOwnInventory() {
+        // Act
+        sessionService.open(target, target);
+        
+        // Assert
+        verify(target).openInventory(targetInventory);
+        assertEquals(0, sessionService.getSessionCount());
+        bukkit.verify(() -> Bukkit.createInventory(any(InventoryHolder.class), anyInt(), anyString()), never());
+        verify(pluginManager, never()).registerEvents(any(), any());
+    }
+    
+    /**
+     * Test that the session, its sync task and its listener go away with the last viewer.
+     */
+    @Test
+    void testHandleClose_LastViewerTearsDownSession() {
+        // Arrange
+        Player first = viewer();
+        Player second = viewer();
+        sessionService.open(first, target);
+        sessionService.open(second, target);
+        InventorySession session = (InventorySession) captureHolder();
+        
+        // Act
+        sessionService.handleClose(session, first);
+        int afterFirst = sessionService.getSessionCount();
+        sessionService.handleClose(session, second);
+        
+        // Assert
+        assertEquals(1, afterFirst);
+        assertEquals(0, sessionService.getSessionCount());
+        verify(syncTask).cancel();
+    }
+    
+    /**
+     * Test that a sync writes only the slots the player changed into the view.
+     */
+    @Test
+    void testSync_OnlyChangedSlotsTouched() {
+        // Arrange
+        ItemStack sword = item();
+        ItemStack apple = item();
+        targetItems[0] = sword;
+        sessionService.open(viewer(), target);
+        InventorySession session = (InventorySession) captureHolder();
+        clearInvocations(view, targetInventory);
+        
+        // Act: the player picks up an apple and moves the sword
+        targetItems[3] = apple;
+        targetItems[0] = null;
+        targetItems[7] = sword;
+        int changed = session.sync(target);
+        
+        // Assert
+        assertEquals(3, changed);
+        verify(view).setItem(3, apple);
+        verify(view).setItem(0, null);
+        verify(view).setItem(7, sword);
+        verify(view, times(3)).setItem(anyInt(), any());
+        verify(targetInventory, never()).setItem(anyInt(), any());
+        assertEquals(0, session.sync(target));
+    }
+    
+    /**
+     * Test that a viewer taking from a slot the player changed in the same tick gets
+     * the player's current item, and that the item the view still showed is not created.
+     */
+    @Test
+    void testHandleClick_ViewerTakesSlotPlayerChangedInSameTick() {
+        // Arrange
+        ItemStack apple = item();
+        ItemStack pickaxe = item();
+        targetItems[5] = apple;
+        Player viewer = viewer();
+        sessionService.open(viewer, target);
+        InventorySession session = (InventorySession) captureHolder();
+        
+        // Act: the player swaps the apple for a pickaxe before the view is synced, then the viewer takes the slot
+        targetItems[5] = pickaxe;
+        sessionService.handleClick(session, viewer, 5, ClickType.LEFT);
+        
+        // Assert
+        verify(viewer).setItemOnCursor(pickaxe);
+        assertNull(targetItems[5]);
+        assertNull(viewItems[5]);
+        verify(viewer, never()).setItemOnCursor(apple);
+        assertEquals(0, session.sync(target));
+    }
+    
+    private InventoryHolder captureHolder() {
+        ArgumentCaptor<InventoryHolder> holder = ArgumentCaptor.forClass(InventoryHolder.class);
+        bukkit.verify(() -> Bukkit.createInventory(holder.capture(), eq(VIEW_SIZE), anyString()));
+        return holder.getValue();
+    }
+    
+    private static Player viewer() {
+        Player viewer = mock(Player.class);
+        InventoryView openView = mock(InventoryView.class);
+        when(viewer.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(viewer.getOpenInventory()).thenReturn(openView);
+        when(openView.getTopInventory()).thenReturn(mock(Inventory.class));
+        return viewer;
+    }
+    
+    private static ItemStack item() {
+        // Mocks compare by identity, so a clone must be the same instance
+        ItemStack item = mock(ItemStack.class);
+        when(item.clone()).thenReturn(item);
+        return item;
+    }
+}
@@ -0,0 +1,147 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.utils.MessageTemplate;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the MessageBundles class.
+ * Tests locale resolution, lazy async loading and LRU eviction of bundles.
+ * Async tasks are captured and run by hand.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MessageBundlesTest {
+    
+    @TempDir
+    Path dataFolder;
+    
+    private final List<Runnable> asyncTasks = new ArrayList<>();
+    private MessageBundles bundles;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        UtilityPlugin plugin = mock(UtilityPlugin.class);
+        Server server = mock(Server.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        ConfigService configService = mock(ConfigService.class);
+        
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(scheduler.runTaskAsynchronously(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            asyncTasks.add(invocation.getArgument(1));
+            return null;
+        });
+        when(configService.getPrefix()).thenReturn("");
+        when(configService.getLocaleCacheSize()).thenReturn(1);
+        
+        writeBundle("messages_nl.yml", "god-enabled: \"Godmodus ingeschakeld!\"");
+        writeBundle("messages_de.yml", "god-enabled: \"Gottmodus aktiviert!\"");
+        writeBundle("messages_pt_BR.yml", "god-enabled: \"Modo deus ativado!\"");
+        
+        bundles = new MessageBundles(plugin);
+        bundles.reset();
+    }
+    
+    /**
+     * Test that a bundle is loaded asynchronously on first use and then served from the cache.
+     */
+    @Test
+    void testGet_LoadsLazilyOnFirstUse() {
+        // Act
+        Map<String, MessageTemplate> first = bundles.get(new Locale("nl", "NL"));
+        Map<String, MessageTemplate> whileLoading = bundles.get(new Locale("nl", "NL"));
+        runAsyncTasks();
+        Map<String, MessageTemplate> loaded = bundles.get(new Locale("nl", "NL"));
+        
+        // Assert
+        assertNull(first);
+        assertNull(whileLoading);
+        assertNotNull(loaded);
+        assertEquals("Godmodus ingeschakeld!", loaded.get("god-enabled").render());
+        assertSame(loaded, bundles.get(new Locale("nl", "BE")));
+    }
+    
+    /**
+     * Test that the country-specific bundle wins over the language bundle, whatever the file name case.
+     */
+    @Test
+    void testGet_PrefersCountryBundle() {
+        // Act
+        bundles.get(new Locale("pt", "BR"));
+        runAsyncTasks();
+        Map<String, MessageTemplate> bundle = bundles.get(new Locale("pt", "BR"));
+        
+        // Assert
+        assertEquals("Modo deus ativado!", bundle.get("god-enabled").render());
+        assertNull(bundles.get(new Locale("pt", "PT")));
+    }
+    
+    /**
+     * Test that locales without a bundle never schedule a load.
+     */
+    @Test
+    void testGet_UnknownLocale() {
+        // Act
+        Map<String, MessageTemplate> bundle = bundles.get(Locale.JAPAN);
+        
+        // Assert
+        assertNull(bundle);
+        assertTrue(asyncTasks.isEmpty());
+        assertEquals(0, bundles.getCachedCount());
+    }
+    
+    /**
+     * Test that the least recently used bundle is evicted once the cache is full.
+     */
+    @Test
+    void testGet_EvictsLeastRecentlyUsed() {
+        // Arrange
+        bundles.get(Locale.GERMANY);
+        runAsyncTasks();
+        
+        // Act
+        bundles.get(new Locale("nl", "NL"));
+        runAsyncTasks();
+        
+        // Assert
+        assertEquals(1, bundles.getCachedCount());
+        assertNotNull(bundles.get(new Locale("nl", "NL")));
+        assertNull(bundles.get(Locale.GERMANY), "Evicted bundle should be loaded again");
+        assertEquals(1, asyncTasks.size());
+    }
+    
+    private void writeBundle(String name, String message) throws IOException {
+        String content = "messages:\n  " + message + "\n";
+        Files.write(dataFolder.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void runAsyncTasks() {
+        List<Runnable> tasks = new ArrayList<>(asyncTasks);
+        asyncTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,122 @@
+package com.utility.plugin.services;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the MessageQueue class.
+ * Tests per-tick batching and dropping repeats within the dedupe window.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MessageQueueTest {
+    
+    private static final int WINDOW = 40;
+    
+    private int currentTick;
+    private MessageQueue queue;
+    private Player player;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        queue = new MessageQueue(() -> currentTick, WINDOW);
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+    }
+    
+    /**
+     * Test that the messages of one tick reach the player as a single chat message.
+     */
+    @Test
+    void testFlush_SendsOneBatchPerTick() {
+        // Arrange
+        queue.enqueue(player, "tpa-sent", "Teleport request sent to Steve!");
+        queue.enqueue(player, "tpa-received", "Alex wants to teleport to you!");
+        
+        // Act
+        queue.flush();
+        
+        // Assert
+        verify(player).sendMessage("Teleport request sent to Steve!\nAlex wants to teleport to you!");
+        assertEquals(1, queue.getBatchCount());
+        assertEquals(2, queue.getQueuedCount());
+    }
+    
+    /**
+     * Test that repeats are dropped within the window and sent again once it has passed.
+     */
+    @Test
+    void testEnqueue_DropsRepeatsWithinWindow() {
+        // Arrange
+        String cooldown = "Please wait 30 seconds before sending another teleport request!";
+        
+        // Act
+        boolean first = queue.enqueue(player, "tpa-cooldown", cooldown);
+        queue.flush();
+        currentTick += WINDOW - 1;
+        boolean repeat = queue.enqueue(player, "tpa-cooldown", cooldown);
+        queue.flush();
+        currentTick += 1;
+        boolean afterWindow = queue.enqueue(player, "tpa-cooldown", cooldown);
+        queue.flush();
+        
+        // Assert
+        assertTrue(first);
+        assertFalse(repeat);
+        assertTrue(afterWindow);
+        assertEquals(1, queue.getSuppressedCount());
+        verify(player, times(2)).sendMessage(cooldown);
+    }
+    
+    /**
+     * Test that messages with the same path but different values are all delivered,
+     * while an exact repeat within the window is dropped.
+     */
+    @Test
+    void testEnqueue_DeliversChangedValuesDropsExactRepeats() {
+        // Act
+        boolean first = queue.enqueue(player, "tpa-received", "Alex wants to teleport to you!");
+        queue.flush();
+        currentTick += 20;
+        boolean other = queue.enqueue(player, "tpa-received", "Steve wants to teleport to you!");
+        boolean repeat = queue.enqueue(player, "tpa-received", "Alex wants to teleport to you!");
+        queue.flush();
+        
+        // Assert
+        assertTrue(first);
+        assertTrue(other);
+        assertFalse(repeat);
+        assertEquals(1, queue.getSuppressedCount());
+        verify(player).sendMessage("Alex wants to teleport to you!");
+        verify(player).sendMessage("Steve wants to teleport to you!");
+    }
+    
+    /**
+     * Test that nothing is sent to a player who left before the end of the tick.
+     */
+    @Test
+    void testFlush_SkipsOfflinePlayer() {
+        // Arrange
+        queue.enqueue(player, "tpa-accepted", "Teleport request accepted! Teleporting...");
+        when(player.isOnline()).thenReturn(false);
+        
+        // Act
+        queue.flush();
+        
+        // Assert
+        verify(player, never()).sendMessage(anyString());
+        assertEquals(0, queue.getBatchCount());
+    }
+}
@@ -0,0 +1,254 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import com.utility.plugin.listeners.AutoRepairListener;
+import com.utility.plugin.utils.TraceBuffer;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the RepairService class.
+ * Tests that only damaged items are rewritten and that auto-repair schedules one full
+ * repair per threshold crossing, and benchmarks repairing a full 41-slot inventory
+ * against the old scan that rewrote every durable item.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class RepairServiceTest {
+    
+    private static final int STORAGE_SLOTS = 36;
+    private static final int ARMOR_SLOTS = 4;
+    
+    private final List<Runnable> tasks = new ArrayList<>();
+    private PluginManager pluginManager;
+    private RepairService repairService;
+    private Player player;
+    private PlayerInventory inventory;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        UtilityPlugin plugin = mock(UtilityPlugin.class);
+        Server server = mock(Server.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        ConfigService configService = mock(ConfigService.class);
+        pluginManager = mock(PluginManager.class);
+        player = mock(Player.class);
+        inventory = mock(PlayerInventory.class);
+        UUID playerId = UUID.randomUUID();
+        
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(plugin.getTraceBuffer()).thenReturn(new TraceBuffer(16));
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(server.getPluginManager()).thenReturn(pluginManager);
+        when(server.getPlayer(playerId)).thenReturn(player);
+        when(scheduler.runTask(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            tasks.add(invocation.getArgument(1));
+            return null;
+        });
+        when(configService.getAutoRepairThreshold()).thenReturn(10);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.getContents()).thenReturn(new ItemStack[0]);
+        
+        repairService = new RepairService(plugin);
+    }
+    
+    /**
+     * Test that only damaged items have their meta rewritten and their slot updated.
+     */
+    @Test
+    void testRepair_WritesOnlyDamagedSlots() {
+        // Arrange
+        ItemStack damaged = mockItem(Material.DIAMOND_SWORD, 120);
+        ItemStack intact = mockItem(Material.DIAMOND_SWORD, 0);
+        ItemStack block = mockItem(Material.BLACK_STAINED_GLASS_PANE, 0);
+        ItemStack[] contents = {intact, null, damaged, block};
+        when(inventory.getContents()).thenReturn(contents);
+        
+        // Act
+        int repaired = repairService.repair(player);
+        
+        // Assert
+        assertEquals(1, repaired);
+        verify((Damageable) damaged.getItemMeta()).setDamage(0);
+        verify(damaged).setItemMeta(any());
+        verify(intact, never()).setItemMeta(any());
+        verify(inventory, times(1)).setItem(2, damaged);
+        verify(inventory, never()).setContents(any());
+    }
+    
+    /**
+     * Test that items at full durability never have their meta copied.
+     */
+    @Test
+    void testRepair_UndamagedInventoryNotWritten() {
+        // Arrange
+        ItemStack pristine = mock(ItemStack.class);
+        when(pristine.getType()).thenReturn(Material.DIAMOND_SWORD);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {pristine, null});
+        
+        // Act
+        int repaired = repairService.repair(player);
+        
+        // Assert
+        assertEquals(0, repaired);
+        verify(pristine, never()).getItemMeta();
+        verify(inventory, never()).setItem(anyInt(), any());
+    }
+    
+    /**
+     * Test that absorbed damage schedules a single full repair per threshold crossing.
+     */
+    @Test
+    void testAutoRepair_SchedulesOneRepairPerThresholdCrossing() {
+        // Arrange
+        repairService.toggleAutoRepair(player);
+        clearInvocations(inventory);
+        
+        // Act
+        boolean absorbed = true;
+        for (int i = 0; i < 5; i++) {
+            absorbed &= repairService.absorbDamage(player, 4);
+        }
+        int scheduledAfterCrossing = tasks.size();
+        tasks.get(0).run();
+        for (int i = 0; i < 2; i++) {
+            repairService.absorbDamage(player, 4);
+        }
+        
+        // Assert
+        assertTrue(absorbed);
+        assertEquals(1, scheduledAfterCrossing);
+        assertEquals(1, tasks.size());
+        verify(inventory, times(1)).getContents();
+        verify(pluginManager, times(1)).registerEvents(any(AutoRepairListener.class), any());
+    }
+    
+    /**
+     * Test that damage of players without auto-repair is left alone.
+     */
+    @Test
+    void testAbsorbDamage_WithoutAutoRepair() {
+        // Act
+        boolean absorbed = repairService.absorbDamage(player, 4);
+        
+        // Assert
+        assertFalse(absorbed);
+        assertTrue(tasks.isEmpty());
+    }
+    
+    /**
+     * Benchmark of repairing a full inventory: 36 storage slots of which 9 hold tools,
+     * 4 armour pieces and an off-hand shield, with 3 items damaged.
+     */
+    @Test
+    void testBenchmark_FullInventory() {
+        // Arrange
+        ItemStack[] contents = new ItemStack[STORAGE_SLOTS + ARMOR_SLOTS + 1];
+        for (int slot = 0; slot < STORAGE_SLOTS; slot++) {
+            contents[slot] = slot % 4 == 0
+                    ? mockItem(Material.DIAMOND_SWORD, slot < 12 ? 50 : 0)
+                    : mockItem(Material.BLACK_STAINED_GLASS_PANE, 0);
+        }
+        for (int slot = STORAGE_SLOTS; slot < contents.length; slot++) {
+            contents[slot] = mockItem(Material.DIAMOND_SWORD, 0);
+        }
+        ItemStack[] armor = new ItemStack[ARMOR_SLOTS];
+        System.arraycopy(contents, STORAGE_SLOTS, armor, 0, ARMOR_SLOTS);
+        when(inventory.getContents()).thenReturn(contents);
+        when(inventory.getArmorContents()).thenReturn(armor);
+        when(inventory.getItemInOffHand()).thenReturn(contents[contents.length - 1]);
+        int iterations = 2_000;
+        for (int i = 0; i < 200; i++) {
+            repairService.repair(player);
+            legacyRepair(inventory);
+        }
+        clearInvocations(inventory);
+        for (ItemStack item : contents) {
+            clearInvocations(item);
+        }
+        
+        // Act
+        long start = System.nanoTime();
+        int repaired = 0;
+        for (int i = 0; i < iterations; i++) {
+            repaired = repairService.repair(player);
+        }
+        long repairNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        int legacyWrites = 0;
+        for (int i = 0; i < iterations; i++) {
+            legacyWrites = legacyRepair(inventory);
+        }
+        long legacyNanos = System.nanoTime() - start;
+        
+        // Assert
+        System.out.printf("41-slot inventory: %.1f us/repair, %d slot writes%n",
+                repairNanos / 1000.0 / iterations, repaired);
+        System.out.printf("41-slot inventory, old scan: %.1f us/repair, %d durability writes%n",
+                legacyNanos / 1000.0 / iterations, legacyWrites);
+        assertEquals(3, repaired);
+        assertEquals(19, legacyWrites);
+        verify(inventory, times(3 * iterations)).setItem(anyInt(), any());
+    }
+    
+    /**
+     * The previous repair: three separate scans, rewriting every durable item and
+     * visiting armour and off-hand twice, as getContents already includes them.
+     */
+    @SuppressWarnings("deprecation")
+    private static int legacyRepair(PlayerInventory inventory) {
+        int writes = 0;
+        for (ItemStack item : inventory.getContents()) {
+            if (item != null && item.getType().getMaxDurability() > 0) {
+                item.setDurability((short) 0);
+                writes++;
+            }
+        }
+        for (ItemStack item : inventory.getArmorContents()) {
+            if (item != null && item.getType().getMaxDurability() > 0) {
+                item.setDurability((short) 0);
+                writes++;
+            }
+        }
+        ItemStack offhand = inventory.getItemInOffHand();
+        if (offhand != null && offhand.getType().getMaxDurability() > 0) {
+            offhand.setDurability((short) 0);
+            writes++;
+        }
+        return writes;
+    }
+    
+    private static ItemStack mockItem(Material type, int damage) {
+        ItemStack item = mock(ItemStack.class);
+        Damageable meta = mock(Damageable.class);
+        when(item.getType()).thenReturn(type);
+        when(item.hasItemMeta()).thenReturn(damage > 0);
+        when(item.getItemMeta()).thenReturn((ItemMeta) meta);
+        when(meta.hasDamage()).thenReturn(damage > 0);
+        when(meta.getDamage()).thenReturn(damage);
+        return item;
+    }
+}
@@ -0,0 +1,167 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Heap tests for the TPAService class.
+ * Verifies that pending requests never keep a disconnected Player reachable.
+ * All mocks are stub-only so Mockito does not record invocations that would
+ * themselves hold on to the players.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TPAServiceHeapTest {
+    
+    private final Map<UUID, Player> online = new HashMap<>();
+    private Server server;
+    private TPAService tpaService;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        UtilityPlugin plugin = mock(UtilityPlugin.class, withSettings().stubOnly());
+        server = mock(Server.class, withSettings().stubOnly());
+        ConfigService configService = mock(ConfigService.class, withSettings().stubOnly());
+        TeleportService teleportService = mock(TeleportService.class, withSettings().stubOnly());
+        
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(mock(BukkitScheduler.class, withSettings().stubOnly()));
+        when(server.getPlayer(any(UUID.class))).thenAnswer(invocation -> online.get(invocation.getArgument(0)));
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(plugin.getMessageService()).thenReturn(mock(MessageService.class, withSettings().stubOnly()));
+        when(plugin.getTeleportService()).thenReturn(teleportService);
+        when(configService.getTPATimeout()).thenReturn(60);
+        when(configService.getTPACooldown()).thenReturn(30);
+        when(teleportService.teleport(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        
+        tpaService = new TPAService(plugin);
+    }
+    
+    /**
+     * Test that a sender who quits with a pending request is no longer reachable.
+     */
+    @Test
+    void testQuit_SenderNotReachable() {
+        // Arrange
+        Player target = join("target");
+        WeakReference<Player> sender = sendAndQuit(target);
+        
+        // Act
+        collectUntilCleared(sender);
+        
+        // Assert
+        assertNull(sender.get(), "Player object is still reachable after quit");
+        assertEquals(0, tpaService.getPendingRequestCount());
+    }
+    
+    /**
+     * Test that a target who quits with incoming requests is no longer reachable.
+     */
+    @Test
+    void testQuit_TargetNotReachable() {
+        // Arrange
+        Player sender = join("sender");
+        WeakReference<Player> target = receiveAndQuit(sender);
+        
+        // Act
+        collectUntilCleared(target);
+        
+        // Assert
+        assertNull(target.get(), "Player object is still reachable after quit");
+        assertEquals(0, tpaService.getPendingRequestCount());
+    }
+    
+    /**
+     * Test that requests do not pin players even before the quit purge runs.
+     */
+    @Test
+    void testPendingRequest_DoesNotPinPlayer() {
+        // Arrange
+        Player target = join("target");
+        WeakReference<Player> sender = sendWithoutPurge(target);
+        
+        // Act
+        collectUntilCleared(sender);
+        
+        // Assert
+        assertNull(sender.get(), "Pending request keeps the Player object reachable");
+        assertEquals(1, tpaService.getPendingRequestCount());
+    }
+    
+    private WeakReference<Player> sendAndQuit(Player target) {
+        Player sender = join("sender");
+        assertTrue(tpaService.sendTPARequest(sender, target));
+        quit(sender);
+        forgetLastInvocation();
+        return new WeakReference<>(sender);
+    }
+    
+    private WeakReference<Player> receiveAndQuit(Player sender) {
+        Player target = join("target");
+        assertTrue(tpaService.sendTPARequest(sender, target));
+        quit(target);
+        forgetLastInvocation();
+        return new WeakReference<>(target);
+    }
+    
+    private WeakReference<Player> sendWithoutPurge(Player target) {
+        Player sender = join("sender");
+        assertTrue(tpaService.sendTPARequest(sender, target));
+        online.remove(sender.getUniqueId());
+        forgetLastInvocation();
+        return new WeakReference<>(sender);
+    }
+    
+    private Player join(String name) {
+        UUID playerId = UUID.randomUUID();
+        Player player = mock(Player.class, withSettings().stubOnly());
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn(name);
+        when(player.isOnline()).thenReturn(true);
+        online.put(playerId, player);
+        return player;
+    }
+    
+    private void quit(Player player) {
+        online.remove(player.getUniqueId());
+        tpaService.handlePlayerQuit(player);
+    }
+    
+    /**
+     * Mockito remembers the last mock invocation per thread; touch an unrelated
+     * mock so that reference does not point at the player under test.
+     */
+    private void forgetLastInvocation() {
+        server.getCurrentTick();
+    }
+    
+    private static void collectUntilCleared(WeakReference<?> reference) {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
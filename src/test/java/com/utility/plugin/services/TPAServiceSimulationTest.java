@@ -0,0 +1,194 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Load simulation for the TPAService class.
+ * Drives sends, accepts and denies from 10,000 synthetic players against a simulated
+ * clock: the scheduler is replaced by a captured tick task advanced by hand, so every
+ * timeout and cooldown runs deterministically. Reports throughput, peak structure sizes
+ * and allocation per operation. Allocation figures include the cost of the stub-only
+ * mocks, so compare them between runs rather than reading them as absolute numbers.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TPAServiceSimulationTest {
+    
+    private static final int PLAYERS = 10_000;
+    private static final int TICKS = 3_000;
+    private static final int SENDS_PER_TICK = 40;
+    private static final int ACCEPTS_PER_TICK = 12;
+    private static final int DENIES_PER_TICK = 8;
+    private static final int TIMEOUT_SECONDS = 20;
+    private static final int COOLDOWN_SECONDS = 30;
+    
+    private final Map<UUID, Player> online = new HashMap<>();
+    private final Map<String, Integer> messages = new HashMap<>();
+    private final List<Player> players = new ArrayList<>();
+    private Runnable tickTask;
+    private int currentTick;
+    private long now;
+    private TPAService tpaService;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        UtilityPlugin plugin = mock(UtilityPlugin.class, withSettings().stubOnly());
+        Server server = mock(Server.class, withSettings().stubOnly());
+        BukkitScheduler scheduler = mock(BukkitScheduler.class, withSettings().stubOnly());
+        ConfigService configService = mock(ConfigService.class, withSettings().stubOnly());
+        TeleportService teleportService = mock(TeleportService.class, withSettings().stubOnly());
+        MessageService messageService = mock(MessageService.class, withSettings().stubOnly().defaultAnswer(invocation -> {
+            if (invocation.getMethod().getName().equals("sendMessage")) {
+                messages.merge(invocation.getArgument(1), 1, Integer::sum);
+            }
+            return null;
+        }));
+        
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(plugin.getMessageService()).thenReturn(messageService);
+        when(plugin.getTeleportService()).thenReturn(teleportService);
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(server.getCurrentTick()).thenAnswer(invocation -> currentTick);
+        when(server.getPlayer(any(UUID.class))).thenAnswer(invocation -> online.get(invocation.getArgument(0)));
+        when(scheduler.runTaskTimer(any(), any(Runnable.class), anyLong(), anyLong())).thenAnswer(invocation -> {
+            tickTask = invocation.getArgument(1);
+            return mock(BukkitTask.class, withSettings().stubOnly());
+        });
+        when(configService.getTPATimeout()).thenReturn(TIMEOUT_SECONDS);
+        when(configService.getTPACooldown()).thenReturn(COOLDOWN_SECONDS);
+        when(teleportService.teleport(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        
+        for (int i = 0; i < PLAYERS; i++) {
+            UUID playerId = new UUID(0x5157L, i + 1L);
+            Player player = mock(Player.class, withSettings().stubOnly());
+            when(player.getUniqueId()).thenReturn(playerId);
+            when(player.getName()).thenReturn("Player" + i);
+            when(player.isOnline()).thenReturn(true);
+            online.put(playerId, player);
+            players.add(player);
+        }
+        
+        now = 1_000_000L;
+        tpaService = new TPAService(plugin, () -> now);
+        assertNotNull(tickTask, "TPAService did not schedule its tick task");
+    }
+    
+    /**
+     * Test that every sent request ends in exactly one accept, deny or timeout under load,
+     * and that all state drains once traffic stops.
+     */
+    @Test
+    void testSimulation_TenThousandPlayers() {
+        // Arrange
+        Random random = new Random(1234);
+        Player[] recentTargets = new Player[64];
+        int recent = 0;
+        int sent = 0;
+        int rejected = 0;
+        long operations = 0;
+        int peakPending = 0;
+        int peakTargets = 0;
+        int peakExpiries = 0;
+        int peakCooldowns = 0;
+        
+        // Act
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int i = 0; i < SENDS_PER_TICK; i++) {
+                Player from = players.get(random.nextInt(PLAYERS));
+                Player to = players.get(random.nextInt(PLAYERS));
+                if (from == to) {
+                    continue;
+                }
+                if (tpaService.sendTPARequest(from, to)) {
+                    sent++;
+                    recentTargets[recent++ & 63] = to;
+                } else {
+                    rejected++;
+                }
+                operations++;
+            }
+            for (int i = 0; i < ACCEPTS_PER_TICK + DENIES_PER_TICK; i++) {
+                Player target = recentTargets[random.nextInt(recentTargets.length)];
+                if (target == null) {
+                    continue;
+                }
+                if (i < ACCEPTS_PER_TICK) {
+                    tpaService.acceptTPARequest(target);
+                } else {
+                    tpaService.denyTPARequest(target);
+                }
+                operations++;
+            }
+            
+            advanceTick();
+            peakPending = Math.max(peakPending, tpaService.getPendingRequestCount());
+            peakTargets = Math.max(peakTargets, tpaService.getRequestTargetCount());
+            peakExpiries = Math.max(peakExpiries, tpaService.getScheduledExpiryCount());
+            peakCooldowns = Math.max(peakCooldowns, tpaService.getCooldownCount());
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        
+        // Let every pending request time out and every cooldown pass
+        for (int tick = 0; tick < (COOLDOWN_SECONDS + 2) * 20; tick++) {
+            advanceTick();
+        }
+        
+        System.out.printf("TPA simulation: %d players, %d ticks, %d ops in %.1f ms (%.0f ops/sec)%n",
+                PLAYERS, TICKS, operations, elapsedNanos / 1e6, operations * 1e9 / elapsedNanos);
+        System.out.printf("  sent %d, rejected by cooldown %d, accepted %d, denied %d, timed out %d%n",
+                sent, rejected, count("tpa-accepted"), count("tpa-denied"), count("tpa-timeout"));
+        System.out.printf("  peak pending %d, peak targets %d, peak expiries %d, peak cooldowns %d%n",
+                peakPending, peakTargets, peakExpiries, peakCooldowns);
+        System.out.printf("  allocated %.1f MB, %.0f bytes/op%n", allocated / 1e6, (double) allocated / operations);
+        
+        // Assert
+        assertTrue(sent > 0 && rejected > 0, "Simulation should exercise both sends and cooldowns");
+        assertTrue(count("tpa-accepted") > 0 && count("tpa-denied") > 0 && count("tpa-timeout") > 0);
+        assertEquals(sent, count("tpa-accepted") + count("tpa-denied") + count("tpa-timeout"),
+                "Every request must end in exactly one accept, deny or timeout");
+        assertEquals(0, tpaService.getPendingRequestCount());
+        assertEquals(0, tpaService.getRequestTargetCount());
+        assertEquals(0, tpaService.getScheduledExpiryCount());
+        assertEquals(0, tpaService.getCooldownCount());
+        assertTrue(peakExpiries <= peakPending, "Replaced requests must not leave timeouts behind");
+    }
+    
+    private void advanceTick() {
+        currentTick++;
+        now += 50L;
+        tickTask.run();
+    }
+    
+    private int count(String messagePath) {
+        return messages.getOrDefault(messagePath, 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.utility.plugin.services;
+
+import com.utility.plugin.UtilityPlugin;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the TPAService class.
+ * Tests how /tpaccept and /tpadeny find the request from a named sender.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TPAServiceTest {
+    
+    private final Map<UUID, Player> online = new HashMap<>();
+    private MessageService messageService;
+    private TPAService tpaService;
+    private Player target;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        UtilityPlugin plugin = mock(UtilityPlugin.class);
+        Server server = mock(Server.class);
+        ConfigService configService = mock(ConfigService.class);
+        messageService = mock(MessageService.class);
+        
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(mock(BukkitScheduler.class));
+        when(server.getPlayer(any(UUID.class))).thenAnswer(invocation -> online.get(invocation.getArgument(0)));
+        when(plugin.getConfigService()).thenReturn(configService);
+        when(plugin.getMessageService()).thenReturn(messageService);
+        when(configService.getTPATimeout()).thenReturn(60);
+        when(configService.getTPACooldown()).thenReturn(30);
+        
+        tpaService = new TPAService(plugin);
+        target = join("Target");
+    }
+    
+    /**
+     * Test that a partial name, as typed before tab completion, finds the sender's request.
+     */
+    @Test
+    void testDenyTPARequest_PartialName() {
+        // Arrange
+        Player alexander = join("Alexander");
+        Player steve = join("Steve");
+        tpaService.sendTPARequest(alexander, target);
+        tpaService.sendTPARequest(steve, target);
+        
+        // Act
+        boolean denied = tpaService.denyTPARequest(target, "ale");
+        
+        // Assert
+        assertTrue(denied);
+        assertEquals(1, tpaService.getPendingRequestCount());
+        verify(messageService).sendMessage(alexander, "tpa-denied-other", "player", "Target");
+        verify(messageService, never()).sendMessage(eq(steve), eq("tpa-denied-other"), any(String[].class));
+    }
+    
+    /**
+     * Test that a sender whose name matches exactly wins over a longer name starting with it.
+     */
+    @Test
+    void testDenyTPARequest_ExactNameWins() {
+        // Arrange
+        Player alexander = join("Alexander");
+        Player alex = join("Alex");
+        tpaService.sendTPARequest(alexander, target);
+        tpaService.sendTPARequest(alex, target);
+        
+        // Act
+        tpaService.denyTPARequest(target, "alex");
+        
+        // Assert
+        verify(messageService).sendMessage(alex, "tpa-denied-other", "player", "Target");
+        verify(messageService, never()).sendMessage(eq(alexander), eq("tpa-denied-other"), any(String[].class));
+    }
+    
+    /**
+     * Test that only players with a pending request are matched.
+     */
+    @Test
+    void testDenyTPARequest_NoRequestFromName() {
+        // Arrange
+        join("Alexander");
+        tpaService.sendTPARequest(join("Steve"), target);
+        
+        // Act
+        boolean denied = tpaService.denyTPARequest(target, "ale");
+        
+        // Assert
+        assertFalse(denied);
+        assertEquals(1, tpaService.getPendingRequestCount());
+        verify(messageService).sendMessage(target, "tpa-no-request-from", "player", "ale");
+    }
+    
+    private Player join(String name) {
+        UUID playerId = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn(name);
+        when(player.isOnline()).thenReturn(true);
+        online.put(playerId, player);
+        return player;
+    }
+}
@@ -0,0 +1,81 @@
+package com.utility.plugin.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ComponentTemplate class.
+ * Tests shared rendering, placeholder styles and the per-recipient overlay.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class ComponentTemplateTest {
+    
+    private static final String PREFIX = "&8[&bUtilityPlugin&8] &r";
+    
+    /**
+     * Test that a message without placeholders renders to one shared component.
+     */
+    @Test
+    void testRender_StaticMessageIsShared() {
+        // Arrange
+        ComponentTemplate template = MessageTemplate.compile(PREFIX, "&aGod mode enabled!").toComponent();
+        
+        // Act
+        Component first = template.render();
+        Component second = template.render("player", "Steve");
+        
+        // Assert
+        assertSame(first, second);
+        assertEquals("[UtilityPlugin] God mode enabled!", plain(first));
+    }
+    
+    /**
+     * Test that a placeholder value takes the colour and formatting in effect before it.
+     */
+    @Test
+    void testRender_PlaceholderInheritsStyle() {
+        // Arrange
+        ComponentTemplate template = MessageTemplate.compile("", "&a&l{player} &caccepted").toComponent();
+        
+        // Act
+        Component rendered = template.render("player", "Steve");
+        
+        // Assert
+        assertEquals("Steve accepted", plain(rendered));
+        Component value = rendered.children().get(1);
+        assertEquals(NamedTextColor.GREEN, value.style().color());
+        assertTrue(value.style().hasDecoration(TextDecoration.BOLD));
+    }
+    
+    /**
+     * Test that binding the shared placeholders leaves only the per-recipient ones.
+     */
+    @Test
+    void testBind_OverlaysPerRecipientPlaceholder() {
+        // Arrange
+        ComponentTemplate template = MessageTemplate.compile(PREFIX,
+                "&a{viewer}, you are being teleported to {player}!").toComponent();
+        
+        // Act
+        ComponentTemplate overlay = template.bind("player", "Notch");
+        
+        // Assert
+        assertEquals(1, overlay.getPlaceholderCount());
+        assertEquals("[UtilityPlugin] Steve, you are being teleported to Notch!",
+                plain(overlay.render("viewer", "Steve")));
+        assertEquals("[UtilityPlugin] Alex, you are being teleported to Notch!",
+                plain(overlay.render("viewer", "Alex")));
+    }
+    
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
@@ -0,0 +1,114 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ConfigValidator class.
+ * Tests locating keys in the source text and reporting invalid settings with their line.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class ConfigValidatorTest {
+    
+    private static final String SOURCE = String.join("\n",
+            "# UtilityPlugin Configuration",
+            "prefix: \"&8[&bUtilityPlugin&8] &r\"",
+            "",
+            "tpa:",
+            "  # Timeout for TPA requests in seconds",
+            "  timeout: 60",
+            "  mass-teleport:",
+            "    timeout: 5",
+            "    tick-budget-nanos: 2000000",
+            "  cooldown: soon",
+            "",
+            "cluster:",
+            "  enabled: false");
+    
+    /**
+     * Test that nested keys are found on their own line and not on a deeper namesake.
+     */
+    @Test
+    void testFindLine_NestedKeys() {
+        // Arrange
+        String[] lines = SOURCE.split("\n");
+        
+        // Act & Assert
+        assertEquals(2, ConfigValidator.findLine(lines, "prefix"));
+        assertEquals(6, ConfigValidator.findLine(lines, "tpa.timeout"));
+        assertEquals(8, ConfigValidator.findLine(lines, "tpa.mass-teleport.timeout"));
+        assertEquals(10, ConfigValidator.findLine(lines, "tpa.cooldown"));
+        assertEquals(13, ConfigValidator.findLine(lines, "cluster.enabled"));
+        assertEquals(-1, ConfigValidator.findLine(lines, "cluster.node-id"));
+    }
+    
+    /**
+     * Test that an invalid setting is reported with the line it is defined on.
+     */
+    @Test
+    void testValidate_ReportsLineOfInvalidSetting() {
+        // Arrange
+        Configuration config = mock(Configuration.class);
+        when(config.isSet("tpa.cooldown")).thenReturn(true);
+        when(config.isInt("tpa.cooldown")).thenReturn(false);
+        when(config.isLong("tpa.cooldown")).thenReturn(false);
+        
+        // Act
+        List<String> problems = ConfigValidator.validate(config, SOURCE);
+        
+        // Assert
+        assertEquals(1, problems.size());
+        assertEquals("line 10: tpa.cooldown must be a whole number", problems.get(0));
+    }
+    
+    /**
+     * Test that a number below its minimum is rejected.
+     */
+    @Test
+    void testValidate_RejectsNumberBelowMinimum() {
+        // Arrange
+        Configuration config = mock(Configuration.class);
+        when(config.isSet("tpa.timeout")).thenReturn(true);
+        when(config.isInt("tpa.timeout")).thenReturn(true);
+        when(config.getLong("tpa.timeout", 1)).thenReturn(0L);
+        
+        // Act
+        List<String> problems = ConfigValidator.validate(config, SOURCE);
+        
+        // Assert
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).startsWith("line 6: "));
+    }
+    
+    /**
+     * Test that an unknown damage cause in a god mode policy is rejected.
+     */
+    @Test
+    void testValidate_RejectsUnknownDamageCause() {
+        // Arrange
+        Configuration config = mock(Configuration.class);
+        ConfigurationSection policies = mock(ConfigurationSection.class);
+        when(config.getConfigurationSection("god.policies")).thenReturn(policies);
+        when(policies.getKeys(false)).thenReturn(Collections.singleton("fall-only"));
+        when(config.isList("god.policies.fall-only.causes")).thenReturn(true);
+        when(config.getStringList("god.policies.fall-only.causes")).thenReturn(Arrays.asList("FALL", "FALLING"));
+        
+        // Act
+        List<String> problems = ConfigValidator.validate(config, SOURCE);
+        
+        // Assert
+        assertEquals(1, problems.size());
+        assertEquals("god.policies.fall-only.causes has unknown damage cause FALLING", problems.get(0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.utility.plugin.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CooldownTable class.
+ * Tests lookups, lazy removal, bucketed eviction and consistency under churn.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class CooldownTableTest {
+    
+    private CooldownTable table;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        table = new CooldownTable(1000L, 8);
+    }
+    
+    /**
+     * Test that a stored expiry is returned while the cooldown is active.
+     */
+    @Test
+    void testGetExpiry_Active() {
+        // Arrange
+        UUID player = UUID.randomUUID();
+        table.put(player, 31_000L);
+        
+        // Act
+        long expiry = table.getExpiry(player, 1_000L);
+        
+        // Assert
+        assertEquals(31_000L, expiry);
+        assertEquals(0L, table.getExpiry(UUID.randomUUID(), 1_000L));
+    }
+    
+    /**
+     * Test that an expired entry is removed by the lookup that finds it.
+     */
+    @Test
+    void testGetExpiry_ExpiredEntryRemoved() {
+        // Arrange
+        UUID player = UUID.randomUUID();
+        table.put(player, 5_000L);
+        
+        // Act
+        long expiry = table.getExpiry(player, 5_000L);
+        
+        // Assert
+        assertEquals(0L, expiry);
+        assertEquals(0, table.size());
+    }
+    
+    /**
+     * Test that eviction drops passed cooldowns, including ones further out than the bucket ring.
+     */
+    @Test
+    void testEvictExpired_DropsPassedCooldowns() {
+        // Arrange
+        UUID shortCooldown = UUID.randomUUID();
+        UUID longCooldown = UUID.randomUUID();
+        table.evictExpired(0L);
+        table.put(shortCooldown, 3_500L);
+        table.put(longCooldown, 20_500L);
+        
+        // Act
+        table.evictExpired(10_000L);
+        
+        // Assert
+        assertEquals(1, table.size());
+        assertEquals(20_500L, table.getExpiry(longCooldown, 10_000L));
+        table.evictExpired(21_000L);
+        assertEquals(0, table.size());
+    }
+    
+    /**
+     * Test that the table stays consistent with a reference map under random churn.
+     */
+    @Test
+    void testChurn_MatchesReferenceMap() {
+        // Arrange
+        Random random = new Random(42);
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        Map<UUID, Long> reference = new HashMap<>();
+        table.evictExpired(0L);
+        
+        // Act
+        for (long now = 1; now <= 60_000L; now += 7) {
+            UUID player = players.get(random.nextInt(players.size()));
+            long expiresAt = now + 1 + random.nextInt(15_000);
+            table.put(player, expiresAt);
+            reference.put(player, expiresAt);
+            if (random.nextInt(10) == 0) {
+                UUID removed = players.get(random.nextInt(players.size()));
+                table.remove(removed);
+                reference.remove(removed);
+            }
+            table.evictExpired(now);
+            
+            // Assert
+            UUID probe = players.get(random.nextInt(players.size()));
+            Long expected = reference.get(probe);
+            long actual = table.getExpiry(probe, now);
+            assertEquals(expected == null || expected <= now ? 0L : expected, actual);
+        }
+        table.evictExpired(100_000L);
+        assertEquals(0, table.size());
+    }
+}
@@ -0,0 +1,117 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MessageTemplate class.
+ * Tests compilation and rendering, and benchmarks rendering against the
+ * replace-and-translate path used before templates.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MessageTemplateTest {
+    
+    private static final String PREFIX = "&8[&bUtilityPlugin&8] &r";
+    private static final String MESSAGE = "&a{player} wants to teleport to you! Use /tpaccept {player} or /tpadeny {player}";
+    
+    /**
+     * Test that rendering matches the old replace-then-translate output.
+     */
+    @Test
+    void testRender_MatchesLegacyOutput() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compile(PREFIX, MESSAGE);
+        
+        // Act
+        String rendered = template.render("player", "Steve");
+        
+        // Assert
+        assertEquals(legacyRender(PREFIX, MESSAGE, "player", "Steve"), rendered);
+        assertEquals(3, template.getPlaceholderCount());
+    }
+    
+    /**
+     * Test that placeholders without a value and stray braces are kept as written.
+     */
+    @Test
+    void testRender_UnmatchedPlaceholdersKept() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compile("", "&cWait {cooldown}s {not a placeholder} {}");
+        
+        // Act
+        String rendered = template.render("player", "Steve");
+        
+        // Assert
+        assertEquals(ChatColor.translateAlternateColorCodes('&', "&cWait {cooldown}s {not a placeholder} {}"), rendered);
+        assertEquals(1, template.getPlaceholderCount());
+    }
+    
+    /**
+     * Test that a message without placeholders renders to the same precomputed string.
+     */
+    @Test
+    void testRender_StaticMessageReturnsSameString() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compile(PREFIX, "&aGod mode enabled!");
+        
+        // Act
+        String first = template.render();
+        String second = template.render("player", "Steve");
+        
+        // Assert
+        assertSame(first, second);
+    }
+    
+    /**
+     * Benchmark of template rendering against the old per-send path.
+     */
+    @Test
+    void testBenchmark_RenderAgainstLegacyPath() {
+        // Arrange
+        int iterations = 200_000;
+        MessageTemplate template = MessageTemplate.compile(PREFIX, MESSAGE);
+        String[] names = {"Steve", "Alex", "Notch", "Herobrine"};
+        long checksum = 0;
+        for (int i = 0; i < 20_000; i++) {
+            checksum += legacyRender(PREFIX, MESSAGE, "player", names[i & 3]).length();
+            checksum += template.render("player", names[i & 3]).length();
+        }
+        
+        // Act
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += legacyRender(PREFIX, MESSAGE, "player", names[i & 3]).length();
+        }
+        long legacyNanos = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += template.render("player", names[i & 3]).length();
+        }
+        long templateNanos = System.nanoTime() - start;
+        
+        // Assert
+        System.out.printf("Legacy path: %.1f ns/message%n", (double) legacyNanos / iterations);
+        System.out.printf("Template: %.1f ns/message (%.1fx faster, checksum %d)%n",
+                (double) templateNanos / iterations, (double) legacyNanos / templateNanos, checksum);
+        assertTrue(templateNanos < legacyNanos, "Template rendering should beat replace-and-translate");
+    }
+    
+    /**
+     * The message path used before templates: placeholder replace loop, prefix
+     * concatenation and colour translation over the whole string on every send.
+     */
+    private static String legacyRender(String prefix, String message, String... replacements) {
+        for (int i = 0; i < replacements.length; i += 2) {
+            if (i + 1 < replacements.length) {
+                message = message.replace("{" + replacements[i] + "}", replacements[i + 1]);
+            }
+        }
+        return ChatColor.translateAlternateColorCodes('&', prefix + message);
+    }
+}
@@ -0,0 +1,139 @@
+package com.utility.plugin.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NbtReader class.
+ * Tests skipping and copying tags without decoding them, and rejecting malformed data.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class NbtReaderTest {
+    
+    /**
+     * Test that skipping a nested tag leaves the reader at the next entry.
+     */
+    @Test
+    void testSkip_NestedTags() throws IOException {
+        // Arrange
+        byte[] data = compound(out -> {
+            out.writeByte(NbtReader.TAG_LIST);
+            out.writeUTF("nested");
+            out.writeByte(NbtReader.TAG_COMPOUND);
+            out.writeInt(2);
+            for (int i = 0; i < 2; i++) {
+                out.writeByte(NbtReader.TAG_LONG_ARRAY);
+                out.writeUTF("longs");
+                out.writeInt(3);
+                out.write(new byte[24]);
+                out.writeByte(NbtReader.TAG_STRING);
+                out.writeUTF("name");
+                out.writeUTF("value " + i);
+                out.writeByte(NbtReader.TAG_END);
+            }
+            out.writeByte(NbtReader.TAG_INT);
+            out.writeUTF("after");
+            out.writeInt(42);
+        });
+        NbtReader nbt = new NbtReader(new ByteArrayInputStream(data));
+        
+        // Act
+        assertEquals("root", nbt.readRootCompound());
+        byte type = nbt.readType();
+        assertEquals("nested", nbt.readName());
+        nbt.skip(type);
+        
+        // Assert
+        assertEquals(NbtReader.TAG_INT, nbt.readType());
+        assertEquals("after", nbt.readName());
+        assertEquals(42, nbt.readInt());
+        assertEquals(NbtReader.TAG_END, nbt.readType());
+    }
+    
+    /**
+     * Test that copying a whole compound reproduces its bytes exactly.
+     */
+    @Test
+    void testCopy_Verbatim() throws IOException {
+        // Arrange
+        byte[] data = compound(out -> {
+            out.writeByte(NbtReader.TAG_BYTE_ARRAY);
+            out.writeUTF("bytes");
+            out.writeInt(4);
+            out.write(new byte[] {1, 2, 3, 4});
+            out.writeByte(NbtReader.TAG_LIST);
+            out.writeUTF("empty");
+            out.writeByte(NbtReader.TAG_END);
+            out.writeInt(0);
+            out.writeByte(NbtReader.TAG_DOUBLE);
+            out.writeUTF("x");
+            out.writeDouble(0.5);
+        });
+        NbtReader nbt = new NbtReader(new ByteArrayInputStream(data));
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(copy);
+        
+        // Act
+        out.writeByte(NbtReader.TAG_COMPOUND);
+        out.writeUTF(nbt.readRootCompound());
+        nbt.copy(NbtReader.TAG_COMPOUND, out);
+        
+        // Assert
+        assertArrayEquals(data, copy.toByteArray());
+    }
+    
+    /**
+     * Test that a negative length is reported instead of being read as a huge skip.
+     */
+    @Test
+    void testSkip_NegativeLengthRejected() throws IOException {
+        // Arrange
+        byte[] data = compound(out -> {
+            out.writeByte(NbtReader.TAG_INT_ARRAY);
+            out.writeUTF("ints");
+            out.writeInt(-1);
+        });
+        NbtReader nbt = new NbtReader(new ByteArrayInputStream(data));
+        nbt.readRootCompound();
+        byte type = nbt.readType();
+        nbt.readName();
+        
+        // Act & Assert
+        assertThrows(IOException.class, () -> nbt.skip(type));
+    }
+    
+    /**
+     * Test that data that is not a compound is rejected.
+     */
+    @Test
+    void testReadRootCompound_RejectsOtherTags() {
+        // Arrange
+        NbtReader nbt = new NbtReader(new ByteArrayInputStream(new byte[] {NbtReader.TAG_INT, 0, 0, 0, 0, 0, 1}));
+        
+        // Act & Assert
+        assertThrows(IOException.class, nbt::readRootCompound);
+    }
+    
+    private interface Entries {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    private static byte[] compound(Entries entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(NbtReader.TAG_COMPOUND);
+        out.writeUTF("root");
+        entries.write(out);
+        out.writeByte(NbtReader.TAG_END);
+        return bytes.toByteArray();
+    }
+}
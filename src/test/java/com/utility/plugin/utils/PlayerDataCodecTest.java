@@ -0,0 +1,256 @@
+package com.utility.plugin.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PlayerDataCodec class.
+ * Tests reading items from both armour layouts and rewriting a file without touching
+ * anything but the replaced items.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class PlayerDataCodecTest {
+    
+    private static final int LEGACY_DATA_VERSION = 3955;
+    private static final int MODERN_DATA_VERSION = 4325;
+    
+    /**
+     * Test that armour and off-hand stored as Inventory slots are mapped after the storage slots.
+     */
+    @Test
+    void testRead_LegacyLayout() throws IOException {
+        // Arrange
+        byte[] file = playerData(LEGACY_DATA_VERSION, false);
+        
+        // Act
+        PlayerDataCodec.Contents contents = PlayerDataCodec.read(new ByteArrayInputStream(file));
+        
+        // Assert
+        assertEquals(LEGACY_DATA_VERSION, contents.getDataVersion());
+        assertEquals("minecraft:diamond_sword", readItem(contents.getInventory()[0]).get("id"));
+        assertEquals("minecraft:diamond_helmet", readItem(contents.getInventory()[39]).get("id"));
+        assertEquals("minecraft:shield", readItem(contents.getInventory()[PlayerDataCodec.OFF_HAND]).get("id"));
+        assertEquals("minecraft:ender_pearl", readItem(contents.getEnderChest()[5]).get("id"));
+        assertNull(contents.getInventory()[1]);
+    }
+    
+    /**
+     * Test that armour and off-hand stored in the equipment compound are mapped after the storage slots.
+     */
+    @Test
+    void testRead_EquipmentLayout() throws IOException {
+        // Arrange
+        byte[] file = playerData(MODERN_DATA_VERSION, true);
+        
+        // Act
+        PlayerDataCodec.Contents contents = PlayerDataCodec.read(new ByteArrayInputStream(file));
+        
+        // Assert
+        assertEquals("minecraft:diamond_helmet", readItem(contents.getInventory()[39]).get("id"));
+        assertEquals("minecraft:shield", readItem(contents.getInventory()[PlayerDataCodec.OFF_HAND]).get("id"));
+    }
+    
+    /**
+     * Test that every item carries the data version of its file and no slot.
+     */
+    @Test
+    void testRead_ItemsCarryDataVersion() throws IOException {
+        // Arrange
+        byte[] file = playerData(LEGACY_DATA_VERSION, false);
+        
+        // Act
+        Map<String, Object> item = readItem(PlayerDataCodec.read(new ByteArrayInputStream(file)).getInventory()[0]);
+        
+        // Assert
+        assertEquals(LEGACY_DATA_VERSION, item.get("DataVersion"));
+        assertEquals(1, item.get("count"));
+        assertFalse(item.containsKey("Slot"));
+    }
+    
+    /**
+     * Test that rewriting the inventory moves items and keeps the rest of the file.
+     */
+    @Test
+    void testWrite_ReplacesInventoryOnly() throws IOException {
+        for (boolean equipment : new boolean[] {false, true}) {
+            // Arrange
+            int dataVersion = equipment ? MODERN_DATA_VERSION : LEGACY_DATA_VERSION;
+            byte[] file = playerData(dataVersion, equipment);
+            byte[][] inventory = PlayerDataCodec.read(new ByteArrayInputStream(file)).getInventory();
+            inventory[1] = inventory[0];
+            inventory[0] = null;
+            inventory[36] = inventory[39];
+            inventory[39] = null;
+            
+            // Act
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            PlayerDataCodec.write(new ByteArrayInputStream(file), out, dataVersion, inventory, null);
+            byte[] written = out.toByteArray();
+            PlayerDataCodec.Contents contents = PlayerDataCodec.read(new ByteArrayInputStream(written));
+            
+            // Assert
+            assertNull(contents.getInventory()[0]);
+            assertEquals("minecraft:diamond_sword", readItem(contents.getInventory()[1]).get("id"));
+            assertEquals("minecraft:diamond_helmet", readItem(contents.getInventory()[36]).get("id"));
+            assertNull(contents.getInventory()[39]);
+            assertEquals("minecraft:shield", readItem(contents.getInventory()[PlayerDataCodec.OFF_HAND]).get("id"));
+            assertEquals("minecraft:ender_pearl", readItem(contents.getEnderChest()[5]).get("id"));
+            
+            Map<String, Object> root = readCompound(written);
+            assertEquals(20.0f, root.get("Health"));
+            assertEquals(dataVersion, root.get("DataVersion"));
+            if (equipment) {
+                assertTrue(((Map<?, ?>) root.get("equipment")).containsKey("body"));
+            }
+        }
+    }
+    
+    /**
+     * Test that rewriting a file with unchanged items produces the same file.
+     */
+    @Test
+    void testWrite_UnchangedItemsRoundTrip() throws IOException {
+        // Arrange
+        byte[] file = playerData(LEGACY_DATA_VERSION, false);
+        PlayerDataCodec.Contents contents = PlayerDataCodec.read(new ByteArrayInputStream(file));
+        
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlayerDataCodec.write(new ByteArrayInputStream(file), out, LEGACY_DATA_VERSION,
+                contents.getInventory(), contents.getEnderChest());
+        
+        // Assert
+        assertArrayEquals(file, out.toByteArray());
+    }
+    
+    /**
+     * Builds an uncompressed player data file with a few items and unrelated tags.
+     */
+    private static byte[] playerData(int dataVersion, boolean equipment) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(NbtReader.TAG_COMPOUND);
+        out.writeUTF("");
+        
+        out.writeByte(NbtReader.TAG_FLOAT);
+        out.writeUTF("Health");
+        out.writeFloat(20.0f);
+        
+        out.writeByte(NbtReader.TAG_LIST);
+        out.writeUTF("Inventory");
+        out.writeByte(NbtReader.TAG_COMPOUND);
+        out.writeInt(equipment ? 1 : 3);
+        writeItem(out, "minecraft:diamond_sword", 0);
+        if (!equipment) {
+            writeItem(out, "minecraft:diamond_helmet", 103);
+            writeItem(out, "minecraft:shield", -106);
+        }
+        
+        out.writeByte(NbtReader.TAG_LIST);
+        out.writeUTF("Pos");
+        out.writeByte(NbtReader.TAG_DOUBLE);
+        out.writeInt(3);
+        out.writeDouble(1.5);
+        out.writeDouble(64.0);
+        out.writeDouble(-3.5);
+        
+        if (equipment) {
+            out.writeByte(NbtReader.TAG_COMPOUND);
+            out.writeUTF("equipment");
+            out.writeByte(NbtReader.TAG_COMPOUND);
+            out.writeUTF("head");
+            writeItemEntries(out, "minecraft:diamond_helmet");
+            out.writeByte(NbtReader.TAG_END);
+            out.writeByte(NbtReader.TAG_COMPOUND);
+            out.writeUTF("offhand");
+            writeItemEntries(out, "minecraft:shield");
+            out.writeByte(NbtReader.TAG_END);
+            out.writeByte(NbtReader.TAG_COMPOUND);
+            out.writeUTF("body");
+            writeItemEntries(out, "minecraft:saddle");
+            out.writeByte(NbtReader.TAG_END);
+            out.writeByte(NbtReader.TAG_END);
+        }
+        
+        out.writeByte(NbtReader.TAG_LIST);
+        out.writeUTF("EnderItems");
+        out.writeByte(NbtReader.TAG_COMPOUND);
+        out.writeInt(1);
+        writeItem(out, "minecraft:ender_pearl", 5);
+        
+        out.writeByte(NbtReader.TAG_INT);
+        out.writeUTF("DataVersion");
+        out.writeInt(dataVersion);
+        out.writeByte(NbtReader.TAG_END);
+        return bytes.toByteArray();
+    }
+    
+    private static void writeItem(DataOutputStream out, String id, int slot) throws IOException {
+        writeItemEntries(out, id);
+        out.writeByte(NbtReader.TAG_BYTE);
+        out.writeUTF("Slot");
+        out.writeByte(slot);
+        out.writeByte(NbtReader.TAG_END);
+    }
+    
+    private static void writeItemEntries(DataOutputStream out, String id) throws IOException {
+        out.writeByte(NbtReader.TAG_STRING);
+        out.writeUTF("id");
+        out.writeUTF(id);
+        out.writeByte(NbtReader.TAG_INT);
+        out.writeUTF("count");
+        out.writeInt(1);
+    }
+    
+    private static Map<String, Object> readItem(byte[] serialized) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(serialized))) {
+            in.transferTo(bytes);
+        }
+        return readCompound(bytes.toByteArray());
+    }
+    
+    /**
+     * Reads the top-level entries of a compound; nested compounds are read as maps,
+     * other lists and unknown types are skipped.
+     */
+    private static Map<String, Object> readCompound(byte[] data) throws IOException {
+        NbtReader nbt = new NbtReader(new ByteArrayInputStream(data));
+        nbt.readRootCompound();
+        return readEntries(nbt);
+    }
+    
+    private static Map<String, Object> readEntries(NbtReader nbt) throws IOException {
+        Map<String, Object> entries = new HashMap<>();
+        byte type;
+        while ((type = nbt.readType()) != NbtReader.TAG_END) {
+            String name = nbt.readName();
+            if (type == NbtReader.TAG_INT) {
+                entries.put(name, nbt.readInt());
+            } else if (type == NbtReader.TAG_COMPOUND) {
+                entries.put(name, readEntries(nbt));
+            } else if (type == NbtReader.TAG_FLOAT || type == NbtReader.TAG_STRING) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                nbt.copy(type, new DataOutputStream(bytes));
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+                entries.put(name, type == NbtReader.TAG_FLOAT ? (Object) in.readFloat() : in.readUTF());
+            } else {
+                nbt.skip(type);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,81 @@
+package com.utility.plugin.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TickBudgetedTask class.
+ * Drives the task with a fake clock to test how work is spread over ticks.
+ *
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TickBudgetedTaskTest {
+
+    private long now;
+
+    /**
+     * Test that each tick stops once the budget is used up and the work is spread evenly.
+     */
+    @Test
+    void testTick_SpreadsWorkWithinBudget() {
+        // Arrange
+        List<Integer> done = new ArrayList<>();
+        List<int[]> progress = new ArrayList<>();
+        int[] completions = new int[1];
+        TickBudgetedTask<Integer> task = new TickBudgetedTask<>(items(300), item -> {
+            done.add(item);
+            now += 300_000L;
+        }, 1_000_000L, () -> now)
+                .onProgress(20, (processed, total) -> progress.add(new int[] {processed, total}))
+                .onComplete(() -> completions[0]++);
+
+        // Act
+        int ticks = 0;
+        while (!task.tick()) {
+            ticks++;
+            assertEquals(ticks * 4, task.getProcessed(), "Budget of 1 ms should fit four 0.3 ms items");
+        }
+
+        // Assert
+        assertEquals(300, done.size());
+        assertEquals(Integer.valueOf(299), done.get(299));
+        assertEquals(75, task.getTicks());
+        assertEquals(3, progress.size());
+        assertArrayEquals(new int[] {80, 300}, progress.get(0));
+        assertEquals(1, completions[0]);
+        assertTrue(task.tick());
+        assertEquals(1, completions[0]);
+    }
+
+    /**
+     * Test that an item slower than the whole budget still lets the task progress.
+     */
+    @Test
+    void testTick_AlwaysProcessesOneItem() {
+        // Arrange
+        TickBudgetedTask<Integer> task = new TickBudgetedTask<>(items(3), item -> now += 5_000_000L, 1_000_000L, () -> now);
+
+        // Act
+        task.tick();
+        task.tick();
+        boolean finished = task.tick();
+
+        // Assert
+        assertTrue(finished);
+        assertEquals(3, task.getProcessed());
+    }
+
+    private static List<Integer> items(int count) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+}
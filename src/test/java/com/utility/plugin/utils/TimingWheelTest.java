@@ -0,0 +1,183 @@
+package com.utility.plugin.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TimingWheel class.
+ * Tests expiry ordering, cancellation and scheduler task churn compared to
+ * one scheduled runnable per request.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TimingWheelTest {
+    
+    private List<String> expired;
+    private TimingWheel<String> wheel;
+    
+    /**
+     * Set up test fixtures before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        expired = new ArrayList<>();
+        wheel = new TimingWheel<>(8, expired::add);
+    }
+    
+    /**
+     * Test that a timeout expires on exactly the scheduled tick.
+     */
+    @Test
+    void testTick_ExpiresOnScheduledTick() {
+        // Arrange
+        wheel.schedule("a", 3);
+        
+        // Act
+        advance(2);
+        
+        // Assert
+        assertTrue(expired.isEmpty());
+        advance(1);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+    
+    /**
+     * Test that delays longer than the wheel need several rounds before expiring.
+     */
+    @Test
+    void testTick_DelayLongerThanWheel() {
+        // Arrange
+        wheel.schedule("long", 20);
+        wheel.schedule("exact", 16);
+        
+        // Act
+        advance(16);
+        
+        // Assert
+        assertEquals(List.of("exact"), expired);
+        advance(3);
+        assertEquals(1, expired.size());
+        advance(1);
+        assertEquals(List.of("exact", "long"), expired);
+    }
+    
+    /**
+     * Test that a cancelled timeout never fires.
+     */
+    @Test
+    void testCancel_PreventsExpiry() {
+        // Arrange
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 2);
+        wheel.schedule("b", 2);
+        
+        // Act
+        boolean cancelled = timeout.cancel();
+        advance(2);
+        
+        // Assert
+        assertTrue(cancelled);
+        assertFalse(timeout.isPending());
+        assertFalse(timeout.cancel());
+        assertEquals(List.of("b"), expired);
+    }
+    
+    /**
+     * Test that an expiry callback may schedule a new timeout.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTick_CallbackMaySchedule() {
+        // Arrange
+        List<String> fired = new ArrayList<>();
+        TimingWheel<String>[] holder = new TimingWheel[1];
+        holder[0] = new TimingWheel<>(4, payload -> {
+            fired.add(payload);
+            if (payload.equals("first")) {
+                holder[0].schedule("second", 1);
+            }
+        });
+        holder[0].schedule("first", 1);
+        
+        // Act
+        holder[0].tick();
+        holder[0].tick();
+        
+        // Assert
+        assertEquals(List.of("first", "second"), fired);
+    }
+    
+    /**
+     * Compares a spam wave handled by one scheduler task per request (the old
+     * per-request BukkitRunnable, never cancelled) against the timing wheel.
+     */
+    @Test
+    void testBenchmark_SchedulerChurn() {
+        // Arrange: 200 senders replace their request every tick for 200 ticks, timeout 1200 ticks
+        int senders = 200;
+        int waveTicks = 200;
+        long timeout = 1200;
+        
+        // Act: per-request runnables, modelled as the scheduler's pending task queue
+        long start = System.nanoTime();
+        Map<Integer, Long> requests = new HashMap<>();
+        PriorityQueue<long[]> tasks = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        int peakTasks = 0;
+        for (long tick = 0; tick < waveTicks + timeout; tick++) {
+            if (tick < waveTicks) {
+                for (int sender = 0; sender < senders; sender++) {
+                    requests.put(sender, tick);
+                    tasks.add(new long[] {tick + timeout, sender});
+                }
+            }
+            peakTasks = Math.max(peakTasks, tasks.size());
+            while (!tasks.isEmpty() && tasks.peek()[0] <= tick) {
+                requests.remove((int) tasks.poll()[1]);
+            }
+        }
+        long schedulerNanos = System.nanoTime() - start;
+        
+        // Act: timing wheel, cancelling the replaced request's timeout
+        start = System.nanoTime();
+        Map<Integer, TimingWheel.Timeout<Integer>> pending = new HashMap<>();
+        TimingWheel<Integer> requestWheel = new TimingWheel<>(1024, pending::remove);
+        int peakTimeouts = 0;
+        for (long tick = 0; tick < waveTicks + timeout; tick++) {
+            if (tick < waveTicks) {
+                for (int sender = 0; sender < senders; sender++) {
+                    TimingWheel.Timeout<Integer> previous = pending.put(sender, requestWheel.schedule(sender, timeout));
+                    if (previous != null) {
+                        previous.cancel();
+                    }
+                }
+            }
+            peakTimeouts = Math.max(peakTimeouts, requestWheel.size());
+            requestWheel.tick();
+        }
+        long wheelNanos = System.nanoTime() - start;
+        
+        // Assert
+        System.out.printf("Per-request runnables: peak %d live tasks, %.2f ms%n", peakTasks, schedulerNanos / 1e6);
+        System.out.printf("Timing wheel: peak %d live timeouts, %.2f ms%n", peakTimeouts, wheelNanos / 1e6);
+        assertEquals(senders * waveTicks, peakTasks);
+        assertEquals(senders, peakTimeouts);
+        assertTrue(pending.isEmpty());
+        assertEquals(0, requestWheel.size());
+    }
+    
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.tick();
+        }
+    }
+}
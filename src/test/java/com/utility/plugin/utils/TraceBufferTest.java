@@ -0,0 +1,104 @@
+package com.utility.plugin.utils;
+
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TraceBuffer class.
+ * Tests that the ring keeps the most recent records in order and renders them on demand.
+ * 
+ * @author UtilityPlugin Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TraceBufferTest {
+    
+    /**
+     * Test that the capacity is rounded up to a power of two.
+     */
+    @Test
+    void testCapacity_RoundedUpToPowerOfTwo() {
+        // Act & Assert
+        assertEquals(8, new TraceBuffer(5).getCapacity());
+        assertEquals(8, new TraceBuffer(8).getCapacity());
+        assertEquals(2, new TraceBuffer(1).getCapacity());
+    }
+    
+    /**
+     * Test that a full ring overwrites the oldest records and snapshots them oldest first.
+     */
+    @Test
+    void testSnapshot_KeepsMostRecentRecordsInOrder() throws IOException {
+        // Arrange
+        TraceBuffer buffer = new TraceBuffer(4);
+        UUID playerId = UUID.randomUUID();
+        for (int food = 0; food < 6; food++) {
+            buffer.record(TraceEvent.GOD_HUNGER_CANCELLED, playerId, food);
+        }
+        
+        // Act
+        TraceBuffer.Snapshot snapshot = buffer.snapshot();
+        StringBuilder out = new StringBuilder();
+        snapshot.writeTo(out);
+        String[] lines = out.toString().split("\n");
+        
+        // Assert
+        assertEquals(4, snapshot.size());
+        assertEquals(2, snapshot.getDroppedCount());
+        assertEquals(6, buffer.getRecordedCount());
+        assertEquals(5, lines.length);
+        assertTrue(lines[1].endsWith("GOD_HUNGER_CANCELLED " + playerId + " food=2"));
+        assertTrue(lines[4].endsWith("GOD_HUNGER_CANCELLED " + playerId + " food=5"));
+    }
+    
+    /**
+     * Test that record details are rendered per event type.
+     */
+    @Test
+    void testWriteTo_RendersDetailPerEventType() throws IOException {
+        // Arrange
+        TraceBuffer buffer = new TraceBuffer(16);
+        UUID playerId = UUID.randomUUID();
+        buffer.record(TraceEvent.GOD_DAMAGE_CANCELLED, playerId, DamageCause.FALL.ordinal());
+        buffer.record(TraceEvent.GOD_UNLOADED, playerId, 0);
+        
+        // Act
+        StringBuilder out = new StringBuilder();
+        buffer.snapshot().writeTo(out);
+        String[] lines = out.toString().split("\n");
+        
+        // Assert
+        assertTrue(lines[1].endsWith("GOD_DAMAGE_CANCELLED " + playerId + " FALL"));
+        assertTrue(lines[2].endsWith("GOD_UNLOADED " + playerId));
+    }
+    
+    /**
+     * Benchmark of recording an event, the cost added to every cancelled damage event.
+     */
+    @Test
+    void testBenchmark_Record() {
+        // Arrange
+        TraceBuffer buffer = new TraceBuffer(4096);
+        UUID playerId = UUID.randomUUID();
+        int iterations = 5_000_000;
+        for (int i = 0; i < 500_000; i++) {
+            buffer.record(TraceEvent.GOD_DAMAGE_CANCELLED, playerId, i & 7);
+        }
+        
+        // Act
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            buffer.record(TraceEvent.GOD_DAMAGE_CANCELLED, playerId, i & 7);
+        }
+        long nanos = System.nanoTime() - start;
+        
+        // Assert
+        System.out.printf("Trace record: %.1f ns/event%n", (double) nanos / iterations);
+        assertEquals(500_000L + iterations, buffer.getRecordedCount());
+    }
+}